@@ -0,0 +1,50 @@
+package com.onix.config;
+
+import com.onix.r2dbc.config.ConnectionHoldTime;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reports how long each request kept database connections checked out, summed over every connection it
+ * borrowed. Requests that never touch the database are not recorded.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionHoldTimeFilter implements WebFilter {
+
+    static final String METRIC = "http.server.requests.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ConnectionHoldTime holdTime = new ConnectionHoldTime();
+        return chain.filter(exchange)
+                .contextWrite(holdTime.context())
+                .doFinally(signal -> record(exchange, holdTime));
+    }
+
+    private void record(ServerWebExchange exchange, ConnectionHoldTime holdTime) {
+        if (holdTime.connections() == 0) {
+            return;
+        }
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Timer.builder(METRIC)
+                .tag("method", exchange.getRequest().getMethod().name())
+                .tag("uri", pattern != null ? pattern.getPatternString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(holdTime.total());
+    }
+}
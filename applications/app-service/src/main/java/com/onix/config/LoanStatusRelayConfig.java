@@ -0,0 +1,51 @@
+package com.onix.config;
+
+import com.onix.usecase.loanstatusrelay.LoanStatusRelayUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Mono;
+
+/**
+ * Drains the loan status outbox to the publisher in the background and reports the outbox lag.
+ */
+@Slf4j
+@Configuration
+public class LoanStatusRelayConfig {
+
+    private final LoanStatusRelayUseCase loanStatusRelayUseCase;
+    private final int batchSize;
+    private final Duration lease;
+    private final Counter relayed;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public LoanStatusRelayConfig(LoanStatusRelayUseCase loanStatusRelayUseCase,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${adapter.outbox.batch-size:50}") int batchSize,
+                                 @Value("${adapter.outbox.lease:PT30S}") Duration lease) {
+        this.loanStatusRelayUseCase = loanStatusRelayUseCase;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.relayed = Counter.builder("loan.status.outbox.relayed").register(meterRegistry);
+        Gauge.builder("loan.status.outbox.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${adapter.outbox.relay-interval:PT1S}")
+    public Mono<Void> relay() {
+        return loanStatusRelayUseCase.drain(batchSize, lease)
+                .doOnNext(relayed::increment)
+                .then(loanStatusRelayUseCase.lag())
+                .doOnNext(lag -> lagSeconds.set(lag.toSeconds()))
+                .doOnError(e -> log.error("Loan status outbox relay failed: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
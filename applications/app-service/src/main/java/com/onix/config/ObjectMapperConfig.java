@@ -1,16 +0,0 @@
-package com.onix.config;
-
-import org.reactivecommons.utils.ObjectMapper;
-import org.reactivecommons.utils.ObjectMapperImp;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class ObjectMapperConfig {
-
-    @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapperImp();
-    }
-
-}
@@ -3,8 +3,12 @@ package com.onix.config;
 import com.onix.model.loanapplication.gateways.LoanRepository;
 import com.onix.model.loanapplication.gateways.LoanStatusPublisher;
 import com.onix.model.loanapplication.gateways.UserClient;
+import com.onix.model.loanstatus.gateways.LoanStatusCountRepository;
 import com.onix.model.loanstatus.gateways.LoanStatusRepository;
+import com.onix.model.loanstatusevent.gateways.LoanStatusFeed;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
 import com.onix.model.loantype.gateways.LoanTypeRepository;
+import com.onix.model.transaction.gateways.TransactionRunner;
 import com.onix.usecase.loanapplication.validator.LoanValidator;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -57,6 +61,11 @@ class UseCasesConfigTest {
             return mock(LoanStatusRepository.class);
         }
 
+        @Bean
+        public LoanStatusCountRepository loanStatusCountRepository() {
+            return mock(LoanStatusCountRepository.class);
+        }
+
         @Bean
         public LoanTypeRepository loanTypeRepository() {
             return mock(LoanTypeRepository.class);
@@ -71,6 +80,21 @@ class UseCasesConfigTest {
         public LoanStatusPublisher loanStatusPublisher() {
             return mock(LoanStatusPublisher.class);
         }
+
+        @Bean
+        public LoanStatusOutbox loanStatusOutbox() {
+            return mock(LoanStatusOutbox.class);
+        }
+
+        @Bean
+        public LoanStatusFeed loanStatusFeed() {
+            return mock(LoanStatusFeed.class);
+        }
+
+        @Bean
+        public TransactionRunner transactionRunner() {
+            return mock(TransactionRunner.class);
+        }
     }
 
     static class MyUseCase {
@@ -1,5 +1,6 @@
 package com.onix.model.loanapplication;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
@@ -22,4 +23,5 @@ public class Loan {
     private String documentNumber;
     private Integer loanTypeId;
     private Integer statusId;
+    private LocalDateTime createdAt;
 }
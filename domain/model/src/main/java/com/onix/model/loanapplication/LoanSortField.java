@@ -0,0 +1,35 @@
+package com.onix.model.loanapplication;
+
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LoanSortField {
+    EMAIL("email"),
+    AMOUNT("amount"),
+    TERM_MONTHS("termMonths"),
+    CREATED_AT("createdAt");
+
+    private final String fieldName;
+
+    public static LoanSortField from(String fieldName) {
+        for (LoanSortField field : values()) {
+            if (field.fieldName.equalsIgnoreCase(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Invalid sort field: " + fieldName
+                + ". Allowed values are email, amount, termMonths and createdAt");
+    }
+
+    public String valueOf(LoanPageableDTO loan) {
+        return switch (this) {
+            case EMAIL -> loan.email();
+            case AMOUNT -> loan.amount().toPlainString();
+            case TERM_MONTHS -> loan.termMonths().toString();
+            case CREATED_AT -> loan.createdAt().toString();
+        };
+    }
+}
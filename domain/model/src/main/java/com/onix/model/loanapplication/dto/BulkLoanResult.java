@@ -0,0 +1,19 @@
+package com.onix.model.loanapplication.dto;
+
+import com.onix.model.loanapplication.Loan;
+import java.util.List;
+
+/**
+ * Outcome of one item of a bulk submission. {@code index} is the item's zero-based position in the request;
+ * {@code loan} is the saved loan when the item was accepted, or the submitted one when it was rejected with
+ * {@code errors}.
+ */
+public record BulkLoanResult(
+        long index,
+        Loan loan,
+        List<String> errors
+) {
+    public boolean accepted() {
+        return errors.isEmpty();
+    }
+}
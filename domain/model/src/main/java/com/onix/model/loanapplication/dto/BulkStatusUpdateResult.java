@@ -0,0 +1,21 @@
+package com.onix.model.loanapplication.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one loan of a bulk status update.
+ */
+public record BulkStatusUpdateResult(
+        UUID loanId,
+        Outcome outcome
+) {
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        ALREADY_IN_STATUS
+    }
+
+    public boolean updated() {
+        return outcome == Outcome.UPDATED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.onix.model.loanapplication.dto;
+
+import com.onix.model.loanapplication.LoanSortField;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+public record LoanCursor(
+        LoanSortField sortBy,
+        String sortValue,
+        UUID loanId
+) {
+    private static final String SEPARATOR = "|";
+
+    public static LoanCursor of(LoanSortField sortBy, LoanPageableDTO loan) {
+        return new LoanCursor(sortBy, sortBy.valueOf(loan), loan.loanId());
+    }
+
+    public String encode() {
+        String raw = sortBy.getFieldName() + SEPARATOR + loanId + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LoanCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Missing cursor parts");
+            }
+            return new LoanCursor(LoanSortField.from(parts[0]), parts[2], UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.onix.model.loanapplication.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record LoanPageableDTO(
@@ -13,6 +14,7 @@ public record LoanPageableDTO(
         BigDecimal interestRate,
         String status,
         Long baseSalary,
-        BigDecimal monthlyAmountRequested
+        BigDecimal monthlyAmountRequested,
+        LocalDateTime createdAt
 ) {
 }
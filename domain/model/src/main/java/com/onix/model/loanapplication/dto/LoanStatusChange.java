@@ -0,0 +1,13 @@
+package com.onix.model.loanapplication.dto;
+
+import java.util.UUID;
+
+/**
+ * A loan whose status was changed by a bulk update, with the status it had before.
+ */
+public record LoanStatusChange(
+        UUID loanId,
+        String email,
+        Integer previousStatusId
+) {
+}
@@ -9,5 +9,11 @@ public record PageDTO<T>(
         long totalElements,
         int totalPages,
         boolean hasNext,
-        boolean hasPrevious
-) {}
+        boolean hasPrevious,
+        String nextCursor
+) {
+    public PageDTO(List<T> content, int pageNumber, int pageSize, long totalElements, int totalPages,
+                   boolean hasNext, boolean hasPrevious) {
+        this(content, pageNumber, pageSize, totalElements, totalPages, hasNext, hasPrevious, null);
+    }
+}
@@ -11,6 +11,7 @@ public record UserDTO(
         String address,
         String phone,
         String email,
-        Long baseSalary
+        Long baseSalary,
+        String documentNumber
 ) {
 }
@@ -1,14 +1,54 @@
 package com.onix.model.loanapplication.gateways;
 
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LoanRepository {
     Mono<Loan> saveLoanApplication(Loan loan);
-    Flux<LoanPageableDTO> findPendingLoans(int page, int size, String sortBy, String filter);
+
+    /**
+     * Inserts new loans in a single statement and returns them with their generated id, status and creation
+     * time, in the order given.
+     */
+    Flux<Loan> saveLoanApplications(List<Loan> loans);
+    Flux<LoanPageableDTO> findPendingLoans(int page, int size, LoanSortField sortBy, String filter);
+    Flux<LoanPageableDTO> findPendingLoans(LoanCursor after, int size, LoanSortField sortBy, String filter);
     Mono<Long> countPendingLoans(String filter);
+
+    /**
+     * Every loan whose status matches {@code filter}, in no particular order. The result is fetched from the
+     * database as it is consumed, so it must be read with backpressure rather than collected.
+     */
+    Flux<LoanPageableDTO> streamLoans(String filter);
     Mono<Loan> findById(UUID loanId);
+
+    /**
+     * The loans among {@code loanIds} that exist, in no particular order, read with a single query.
+     */
+    Flux<Loan> findByIds(List<UUID> loanIds);
+
+    /**
+     * Every loan of the applicant with {@code email} currently in {@code statusId}.
+     */
+    Flux<Loan> findByEmailAndStatus(String email, Integer statusId);
+
+    /**
+     * Every loan of the applicants with {@code emails} currently in {@code statusId}, read with a single query.
+     */
+    Flux<Loan> findByEmailsAndStatus(Set<String> emails, Integer statusId);
+
+    /**
+     * Moves every loan among {@code loanIds} that is not already in {@code statusId} to it with a single
+     * statement, returning one change per loan actually updated. Loans are locked while their previous status
+     * is read, so concurrent updates cannot report the same previous status twice.
+     */
+    Flux<LoanStatusChange> updateStatus(List<UUID> loanIds, Integer statusId);
 }
@@ -1,8 +1,8 @@
 package com.onix.model.loanapplication.gateways;
 
-import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
 import reactor.core.publisher.Mono;
 
 public interface LoanStatusPublisher {
-    Mono<Void> sendStatusUpdate(Loan loan, String status, String username);
+    Mono<Void> publish(LoanStatusEvent event);
 }
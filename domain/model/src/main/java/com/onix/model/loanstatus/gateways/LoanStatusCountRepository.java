@@ -0,0 +1,8 @@
+package com.onix.model.loanstatus.gateways;
+
+import reactor.core.publisher.Mono;
+
+public interface LoanStatusCountRepository {
+    Mono<Void> increment(Integer statusId, long delta);
+    Mono<Void> transfer(Integer fromStatusId, Integer toStatusId, long delta);
+}
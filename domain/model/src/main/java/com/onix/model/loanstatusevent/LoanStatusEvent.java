@@ -0,0 +1,24 @@
+package com.onix.model.loanstatusevent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@ToString
+public class LoanStatusEvent {
+    private UUID eventId;
+    private UUID loanId;
+    private String email;
+    private String username;
+    private String status;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.onix.model.loanstatusevent.gateways;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import reactor.core.publisher.Flux;
+
+public interface LoanStatusFeed {
+
+    /**
+     * Live status changes, each emitted once the transaction that made it has committed. Every subscriber
+     * gets its own bounded buffer; one that falls behind loses its oldest undelivered events instead of
+     * slowing down the others.
+     */
+    Flux<LoanStatusEvent> events();
+}
@@ -0,0 +1,30 @@
+package com.onix.model.loanstatusevent.gateways;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface LoanStatusOutbox {
+    Mono<Void> append(LoanStatusEvent event);
+
+    /**
+     * Appends several events with a single statement.
+     */
+    Mono<Void> appendAll(List<LoanStatusEvent> events);
+
+    /**
+     * Claims up to {@code limit} pending events, oldest first. Claimed events are hidden from other relays
+     * for {@code lease} and become claimable again if they are not deleted before it ends.
+     */
+    Flux<LoanStatusEvent> claimPending(int limit, Duration lease);
+
+    Mono<Void> delete(List<UUID> eventIds);
+
+    /**
+     * Age of the oldest event still in the outbox, or zero when it is empty.
+     */
+    Mono<Duration> lag();
+}
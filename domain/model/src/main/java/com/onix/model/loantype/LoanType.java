@@ -18,4 +18,12 @@ public class LoanType {
     private String name;
     private BigDecimal minAmount;
     private BigDecimal maxAmount;
+    /**
+     * Annual interest rate, as a percentage.
+     */
+    private BigDecimal interestRate;
+    /**
+     * Whether new applications of this type are decided automatically instead of waiting for a reviewer.
+     */
+    private Boolean autoValidation;
 }
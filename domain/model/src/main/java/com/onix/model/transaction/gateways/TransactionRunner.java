@@ -0,0 +1,13 @@
+package com.onix.model.transaction.gateways;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs a unit of database work in one transaction. Use cases wrap only their writes with it, so remote
+ * calls made before or after never hold a connection or row locks.
+ */
+public interface TransactionRunner {
+    <T> Mono<T> inTransaction(Mono<T> work);
+    <T> Flux<T> inTransaction(Flux<T> work);
+}
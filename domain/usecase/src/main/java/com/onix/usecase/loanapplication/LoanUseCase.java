@@ -2,47 +2,370 @@ package com.onix.usecase.loanapplication;
 
 import com.onix.model.exception.LoanNotFoundException;
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.BulkLoanResult;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult.Outcome;
+import com.onix.model.loanapplication.dto.LoanCursor;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
 import com.onix.model.loanapplication.dto.PageDTO;
 import com.onix.model.loanapplication.dto.UserDTO;
 import com.onix.model.loanapplication.gateways.LoanRepository;
-import com.onix.model.loanapplication.gateways.LoanStatusPublisher;
 import com.onix.model.loanapplication.gateways.UserClient;
 import com.onix.model.loanstatus.LoanStatus;
+import com.onix.model.loanstatus.gateways.LoanStatusCountRepository;
 import com.onix.model.loanstatus.gateways.LoanStatusRepository;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.model.loanstatusevent.gateways.LoanStatusFeed;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
+import com.onix.model.loantype.LoanType;
 import com.onix.model.loantype.gateways.LoanTypeRepository;
+import com.onix.model.transaction.gateways.TransactionRunner;
 import com.onix.model.exception.InvalidAmountLoanException;
 import com.onix.model.exception.InvalidLoanTypeException;
 import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.exception.ValidationException;
+import com.onix.usecase.loanapplication.decision.DecisionInput;
+import com.onix.usecase.loanapplication.decision.LoanDecision;
+import com.onix.usecase.loanapplication.decision.LoanDecisionEngine;
 import com.onix.usecase.loanapplication.validator.LoanValidator;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 @RequiredArgsConstructor
 public class LoanUseCase {
 
+    /**
+     * Loans enriched per call to the user service while exporting; also the most loans held in memory.
+     */
+    static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * Bulk submissions are validated, checked against the user service and inserted this many at a time.
+     */
+    static final int BULK_CHUNK_SIZE = 100;
+    private static final int BULK_VALIDATION_CONCURRENCY = 16;
+    static final String BULK_SAVE_FAILED = "Loan could not be saved, submit it again";
+    private static final LoanDecisionEngine DECISION_ENGINE = new LoanDecisionEngine();
+
     private final LoanRepository loanRepository;
     private final LoanValidator loanValidator;
     private final LoanTypeRepository loanTypeRepository;
     private final LoanStatusRepository loanStatusRepository;
+    private final LoanStatusCountRepository loanStatusCountRepository;
     private final UserClient userClient;
-    private final LoanStatusPublisher sqsPublisher;
+    private final LoanStatusOutbox loanStatusOutbox;
+    private final LoanStatusFeed loanStatusFeed;
+    private final TransactionRunner transactionRunner;
 
+    /**
+     * Validates and saves a loan application. When its loan type has auto validation, the decision engine
+     * sets its status before it is saved and the decision, manual review included, is appended to the status
+     * outbox; otherwise it waits for a reviewer in the default status. The user and loan type read for validation are reused by
+     * the decision.
+     */
     public Mono<Loan> createLoanApplication(Loan loan, String token) {
         return loanValidator.validate(loan)
-                .then(validateUser(loan, token))
-                .then(validateLoan(loan))
-                .then(loanRepository.saveLoanApplication(loan));
+                .then(Mono.defer(() -> {
+                    Mono<UserDTO> user = userClient
+                            .validateUserRegistered(loan.getEmail(), loan.getDocumentNumber(), token)
+                            .cache();
+                    Mono<LoanType> loanType = loanTypeRepository.getLoanTypeById(loan.getLoanTypeId()).cache();
+                    return validateConcurrently(checkUser(loan, user), checkAmount(loan, loanType))
+                            .then(Mono.defer(() -> decide(loan, user, loanType)))
+                            .flatMap(status -> saveLoan(loan)
+                                    .flatMap(savedLoan -> user
+                                            .flatMap(applicant -> appendDecision(savedLoan, applicant, status))
+                                            .thenReturn(savedLoan)))
+                            .switchIfEmpty(Mono.defer(() -> saveLoan(loan)));
+                }));
+    }
+
+    private Mono<Void> appendDecision(Loan loan, UserDTO applicant, LoanStatus status) {
+        return loanStatusOutbox.append(LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(loan.getLoanId())
+                .email(loan.getEmail())
+                .username(applicant.name() + " " + applicant.lastname())
+                .status(status.getName())
+                .build());
+    }
+
+    private Mono<Loan> saveLoan(Loan loan) {
+        return loanRepository.saveLoanApplication(loan)
+                .flatMap(savedLoan -> loanStatusCountRepository.increment(savedLoan.getStatusId(), 1)
+                        .thenReturn(savedLoan));
+    }
+
+    /**
+     * Runs the decision engine when the loan type has auto validation and moves the loan to the status of
+     * the decision: approved, rejected or manually review. Completes empty, leaving the loan in the default
+     * status, for types without auto validation.
+     */
+    private Mono<LoanStatus> decide(Loan loan, Mono<UserDTO> user, Mono<LoanType> loanType) {
+        return loanType
+                .filter(LoanUseCase::isAutoValidated)
+                .flatMap(type -> user.flatMap(applicant -> approvedMonthlyObligations(loan.getEmail())
+                        .map(obligations -> decision(loan, type, applicant, obligations))))
+                .flatMap(decision -> getStatusIdByName(decision.getStatusName()))
+                .doOnNext(status -> loan.setStatusId(status.getStatusId()));
+    }
+
+    private static LoanDecision decision(Loan loan, LoanType type, UserDTO applicant, BigDecimal obligations) {
+        return DECISION_ENGINE.decide(DecisionInput.of(
+                loan.getAmount(),
+                monthlyPayment(loan, type),
+                applicant.baseSalary() != null ? BigDecimal.valueOf(applicant.baseSalary()) : null,
+                obligations));
+    }
+
+    private static BigDecimal monthlyPayment(Loan loan, LoanType type) {
+        return LoanDecisionEngine.monthlyPayment(loan.getAmount(), type.getInterestRate(), loan.getTermMonths());
+    }
+
+    private static boolean isAutoValidated(LoanType type) {
+        return type != null && Boolean.TRUE.equals(type.getAutoValidation());
+    }
+
+    private Mono<BigDecimal> approvedMonthlyObligations(String email) {
+        return getStatusIdByName(LoanDecision.APPROVE.getStatusName())
+                .flatMapMany(approved -> loanRepository.findByEmailAndStatus(email, approved.getStatusId()))
+                .flatMap(approvedLoan -> loanTypeRepository.getLoanTypeById(approvedLoan.getLoanTypeId())
+                        .map(type -> monthlyPayment(approvedLoan, type)))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Validates and saves a stream of loan applications, reporting an outcome per item instead of failing on
+     * the first invalid one. Items are handled in chunks of {@link #BULK_CHUNK_SIZE}: one user service call
+     * resolves every email in the chunk, items are validated with bounded concurrency, their document number
+     * included, and the valid ones are inserted with a single statement in a transaction per chunk. Accepted
+     * items of auto validated loan types are decided before the insert, as a single loan would be. No
+     * transaction spans the remote calls or the whole submission. Results are emitted in submission order.
+     */
+    public Flux<BulkLoanResult> createLoanApplications(Flux<Loan> loans, String token) {
+        return loans.index()
+                .buffer(BULK_CHUNK_SIZE)
+                .concatMap(chunk -> createChunk(chunk, token), 1);
+    }
+
+    private Flux<BulkLoanResult> createChunk(List<Tuple2<Long, Loan>> chunk, String token) {
+        Set<String> emails = chunk.stream()
+                .map(item -> item.getT2().getEmail())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return userClient.getUsersByEmails(emails, token)
+                .flatMapMany(users -> Flux.fromIterable(chunk)
+                        .flatMapSequential(item -> bulkViolations(item.getT2(), users, token)
+                                        .map(errors -> new BulkLoanResult(item.getT1(), item.getT2(), errors)),
+                                BULK_VALIDATION_CONCURRENCY)
+                        .collectList()
+                        .flatMapMany(results -> saveAccepted(results, users)));
+    }
+
+    private Mono<List<String>> bulkViolations(Loan loan, Map<String, UserDTO> users, String token) {
+        return loanValidator.validate(loan)
+                .then(Mono.defer(() -> Flux.merge(
+                                ruleViolation(validateUserIn(users, loan, token)),
+                                ruleViolation(validateLoan(loan)))
+                        .map(Throwable::getMessage)
+                        .collectList()))
+                .onErrorResume(ValidationException.class, e -> Mono.just(e.getErrors()));
+    }
+
+    /**
+     * Checks the item's email and document number against the profiles resolved for its chunk. A profile
+     * without a document number leaves the pair to the user service's validate endpoint.
+     */
+    private Mono<Void> validateUserIn(Map<String, UserDTO> users, Loan loan, String token) {
+        UserDTO user = users.get(loan.getEmail());
+        if (user != null && user.documentNumber() == null) {
+            return validateUser(loan, token);
+        }
+        if (user != null && user.documentNumber().equals(loan.getDocumentNumber())) {
+            return Mono.empty();
+        }
+        return Mono.error(new UnregisteredUserException(loan.getEmail(), loan.getDocumentNumber()));
+    }
+
+    /**
+     * Decides the accepted loans of one chunk, then inserts them, bumps their counters and appends their
+     * decisions to the outbox in a transaction of their own, so a failed chunk neither rolls back earlier ones
+     * nor fails the stream: its accepted loans are reported with {@link #BULK_SAVE_FAILED} instead.
+     */
+    private Flux<BulkLoanResult> saveAccepted(List<BulkLoanResult> results, Map<String, UserDTO> users) {
+        List<Loan> accepted = results.stream()
+                .filter(BulkLoanResult::accepted)
+                .map(BulkLoanResult::loan)
+                .toList();
+        if (accepted.isEmpty()) {
+            return Flux.fromIterable(results);
+        }
+        return decideAll(accepted, users)
+                .flatMap(decisions -> transactionRunner.inTransaction(loanRepository.saveLoanApplications(accepted)
+                        .collectList()
+                        .flatMap(saved -> Flux.fromIterable(saved)
+                                .groupBy(Loan::getStatusId)
+                                .flatMap(byStatus -> byStatus.count()
+                                        .flatMap(count -> loanStatusCountRepository.increment(byStatus.key(), count)))
+                                .then(Mono.defer(() -> appendDecisions(saved, decisions, users)))
+                                .then(Mono.just(saved)))))
+                .map(saved -> withSavedLoans(results, saved))
+                .onErrorResume(e -> Mono.just(withSaveFailure(results)))
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Runs the decision engine on the loans of auto validated types and sets their status, reading the
+     * approved loans of every applicant in the chunk with one query. Loans approved earlier in the chunk
+     * count towards the obligations of the applicant's later ones. The returned list is aligned with
+     * {@code loans} and holds {@code null} for loans left in the default status.
+     */
+    private Mono<List<LoanStatus>> decideAll(List<Loan> loans, Map<String, UserDTO> users) {
+        return Flux.fromIterable(loans)
+                .map(Loan::getLoanTypeId)
+                .distinct()
+                .flatMap(loanTypeRepository::getLoanTypeById)
+                .collectMap(LoanType::getLoanTypeId)
+                .flatMap(types -> {
+                    Set<String> emails = loans.stream()
+                            .filter(loan -> isAutoValidated(types.get(loan.getLoanTypeId())))
+                            .map(Loan::getEmail)
+                            .collect(Collectors.toSet());
+                    if (emails.isEmpty()) {
+                        return Mono.just(Collections.<LoanStatus>nCopies(loans.size(), null));
+                    }
+                    return decisionStatuses()
+                            .flatMap(statuses -> approvedMonthlyObligations(emails,
+                                    statuses.get(LoanDecision.APPROVE).getStatusId())
+                                    .map(obligations -> loans.stream()
+                                            .map(loan -> decideInChunk(loan, types.get(loan.getLoanTypeId()),
+                                                    users.get(loan.getEmail()), obligations, statuses))
+                                            .toList()));
+                });
+    }
+
+    private static LoanStatus decideInChunk(Loan loan, LoanType type, UserDTO applicant,
+                                            Map<String, BigDecimal> obligations,
+                                            Map<LoanDecision, LoanStatus> statuses) {
+        if (!isAutoValidated(type)) {
+            return null;
+        }
+        LoanDecision decision = decision(loan, type, applicant,
+                obligations.getOrDefault(loan.getEmail(), BigDecimal.ZERO));
+        if (decision == LoanDecision.APPROVE) {
+            obligations.merge(loan.getEmail(), monthlyPayment(loan, type), BigDecimal::add);
+        }
+        LoanStatus status = statuses.get(decision);
+        loan.setStatusId(status.getStatusId());
+        return status;
+    }
+
+    private Mono<Map<LoanDecision, LoanStatus>> decisionStatuses() {
+        return Flux.fromArray(LoanDecision.values())
+                .flatMap(decision -> getStatusIdByName(decision.getStatusName())
+                        .map(status -> Map.entry(decision, status)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Mono<Map<String, BigDecimal>> approvedMonthlyObligations(Set<String> emails, Integer approvedStatusId) {
+        return loanRepository.findByEmailsAndStatus(emails, approvedStatusId)
+                .flatMap(approvedLoan -> loanTypeRepository.getLoanTypeById(approvedLoan.getLoanTypeId())
+                        .map(type -> Map.entry(approvedLoan.getEmail(), monthlyPayment(approvedLoan, type))))
+                .<Map<String, BigDecimal>>collect(HashMap::new, (obligations, payment) ->
+                        obligations.merge(payment.getKey(), payment.getValue(), BigDecimal::add));
+    }
+
+    private Mono<Void> appendDecisions(List<Loan> saved, List<LoanStatus> decisions, Map<String, UserDTO> users) {
+        List<LoanStatusEvent> events = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            LoanStatus status = decisions.get(i);
+            if (status != null) {
+                Loan loan = saved.get(i);
+                UserDTO applicant = users.get(loan.getEmail());
+                events.add(LoanStatusEvent.builder()
+                        .eventId(UUID.randomUUID())
+                        .loanId(loan.getLoanId())
+                        .email(loan.getEmail())
+                        .username(applicant != null ? applicant.name() + " " + applicant.lastname() : null)
+                        .status(status.getName())
+                        .build());
+            }
+        }
+        return events.isEmpty() ? Mono.empty() : loanStatusOutbox.appendAll(events);
+    }
+
+    private static List<BulkLoanResult> withSaveFailure(List<BulkLoanResult> results) {
+        return results.stream()
+                .map(result -> result.accepted()
+                        ? new BulkLoanResult(result.index(), result.loan(), List.of(BULK_SAVE_FAILED))
+                        : result)
+                .toList();
+    }
+
+    private static List<BulkLoanResult> withSavedLoans(List<BulkLoanResult> results, List<Loan> saved) {
+        Iterator<Loan> savedLoans = saved.iterator();
+        return results.stream()
+                .map(result -> result.accepted()
+                        ? new BulkLoanResult(result.index(), savedLoans.next(), result.errors())
+                        : result)
+                .toList();
+    }
+
+    /**
+     * Runs the remote user check and the loan type check in parallel. Rule violations from both are
+     * collected and reported together; any other failure (e.g. the user service being unavailable)
+     * fails the validation immediately and cancels the check still in flight.
+     */
+    private Mono<Void> validateConcurrently(Mono<Void> userCheck, Mono<Void> loanTypeCheck) {
+        return Flux.merge(
+                        ruleViolation(userCheck),
+                        ruleViolation(loanTypeCheck))
+                .collectList()
+                .flatMap(violations -> switch (violations.size()) {
+                    case 0 -> Mono.<Void>empty();
+                    case 1 -> Mono.<Void>error(violations.getFirst());
+                    default -> Mono.<Void>error(new ValidationException(violations.stream()
+                            .map(Throwable::getMessage)
+                            .toList()));
+                });
+    }
+
+    private static Mono<RuntimeException> ruleViolation(Mono<Void> check) {
+        return check
+                .then(Mono.<RuntimeException>empty())
+                .onErrorResume(LoanUseCase::isRuleViolation, e -> Mono.just((RuntimeException) e));
+    }
+
+    private static boolean isRuleViolation(Throwable e) {
+        return e instanceof UnregisteredUserException
+                || e instanceof InvalidLoanTypeException
+                || e instanceof InvalidAmountLoanException;
     }
 
     public Mono<Void> validateLoan(Loan loan) {
-        return loanTypeRepository.getLoanTypeById(loan.getLoanTypeId())
+        return checkAmount(loan, loanTypeRepository.getLoanTypeById(loan.getLoanTypeId()));
+    }
+
+    private static Mono<Void> checkAmount(Loan loan, Mono<LoanType> loanTypeMono) {
+        return loanTypeMono
                 .switchIfEmpty(Mono.error(new InvalidLoanTypeException(loan.getLoanTypeId())))
                 .flatMap(loanType -> {
                     if (loan.getAmount().compareTo(loanType.getMinAmount()) < 0 ||
@@ -55,7 +378,11 @@ public class LoanUseCase {
     }
 
     public Mono<Void> validateUser(Loan loan, String token) {
-        return userClient.validateUserRegistered(loan.getEmail(), loan.getDocumentNumber(), token)
+        return checkUser(loan, userClient.validateUserRegistered(loan.getEmail(), loan.getDocumentNumber(), token));
+    }
+
+    private static Mono<Void> checkUser(Loan loan, Mono<UserDTO> user) {
+        return user
                 .flatMap(isRegistered -> {
                     if (isRegistered == null) {
                         return Mono.error(new UnregisteredUserException(loan.getEmail(), loan.getDocumentNumber()));
@@ -65,45 +392,18 @@ public class LoanUseCase {
     }
 
     public Mono<PageDTO<LoanPageableDTO>> getPendingLoans(int page, int size, String sortBy, String filter, String token) {
-        Mono<List<LoanPageableDTO>> loansMono = loanRepository.findPendingLoans(page, size, sortBy, filter).collectList();
-        Mono<Long> countMono = loanRepository.countPendingLoans(filter);
-
-        return Mono.zip(loansMono, countMono)
-                .flatMap(tuple -> {
-                    List<LoanPageableDTO> loans = tuple.getT1();
-                    long totalElements = tuple.getT2();
+        return Mono.defer(() -> {
+            LoanSortField sortField = LoanSortField.from(sortBy);
+            Mono<List<LoanPageableDTO>> loansMono = loanRepository.findPendingLoans(page, size, sortField, filter).collectList();
+            Mono<Long> countMono = loanRepository.countPendingLoans(filter);
 
-                    Set<String> emails = loans.stream()
-                            .map(LoanPageableDTO::email)
-                            .collect(Collectors.toSet());
+            return Mono.zip(loansMono, countMono)
+                    .flatMap(tuple -> {
+                        long totalElements = tuple.getT2();
+                        int totalPages = (int) Math.ceil((double) totalElements / size);
 
-                    return userClient.getUsersByEmails(emails, token)
-                            .map(userMap -> {
-                                List<LoanPageableDTO> enrichedLoans = loans.stream()
-                                        .map(loan -> {
-                                            UserDTO user = userMap.get(loan.email());
-                                            return new LoanPageableDTO(
-                                                    loan.loanId(),
-                                                    loan.amount(),
-                                                    loan.termMonths(),
-                                                    loan.email(),
-                                                    user != null ? user.name() + " " + user.lastname() : null,
-                                                    loan.loanType(),
-                                                    loan.interestRate(),
-                                                    loan.status(),
-                                                    user != null ? user.baseSalary() : null,
-                                                    loan.amount().divide(
-                                                            BigDecimal.valueOf(loan.termMonths()),
-                                                            2,
-                                                            RoundingMode.HALF_UP
-                                                    )
-                                            );
-                                        })
-                                        .toList();
-
-                                int totalPages = (int) Math.ceil((double) totalElements / size);
-
-                                return new PageDTO<>(
+                        return enrichWithUserData(tuple.getT1(), token)
+                                .map(enrichedLoans -> new PageDTO<>(
                                         enrichedLoans,
                                         page,
                                         size,
@@ -111,32 +411,204 @@ public class LoanUseCase {
                                         totalPages,
                                         page < totalPages - 1,
                                         page > 0
-                                );
-                            });
-                });
+                                ));
+                    });
+        });
     }
 
+    public Mono<PageDTO<LoanPageableDTO>> getPendingLoans(String cursor, int size, String sortBy, String filter, String token) {
+        return Mono.defer(() -> {
+            LoanSortField sortField = LoanSortField.from(sortBy);
+            LoanCursor after = cursor == null || cursor.isBlank() ? null : LoanCursor.decode(cursor);
+            if (after != null && after.sortBy() != sortField) {
+                return Mono.error(new IllegalArgumentException(
+                        "Cursor was issued for sort field " + after.sortBy().getFieldName() + ", not " + sortBy));
+            }
+            Mono<List<LoanPageableDTO>> loansMono = loanRepository.findPendingLoans(after, size + 1, sortField, filter).collectList();
+            Mono<Long> countMono = loanRepository.countPendingLoans(filter);
+
+            return Mono.zip(loansMono, countMono)
+                    .flatMap(tuple -> {
+                        List<LoanPageableDTO> rows = tuple.getT1();
+                        long totalElements = tuple.getT2();
+                        int totalPages = (int) Math.ceil((double) totalElements / size);
+                        boolean hasNext = rows.size() > size;
+                        List<LoanPageableDTO> loans = hasNext ? rows.subList(0, size) : rows;
+                        String nextCursor = hasNext ? LoanCursor.of(sortField, loans.getLast()).encode() : null;
+
+                        return enrichWithUserData(loans, token)
+                                .map(enrichedLoans -> new PageDTO<>(
+                                        enrichedLoans,
+                                        0,
+                                        size,
+                                        totalElements,
+                                        totalPages,
+                                        hasNext,
+                                        after != null,
+                                        nextCursor
+                                ));
+                    });
+        });
+    }
+
+    /**
+     * Streams every loan matching {@code filter} with its user data. Loans are enriched in chunks of
+     * {@link #EXPORT_CHUNK_SIZE}, one chunk at a time, so memory use does not grow with the result size.
+     */
+    public Flux<LoanPageableDTO> exportLoans(String filter, String token) {
+        return loanRepository.streamLoans(filter)
+                .buffer(EXPORT_CHUNK_SIZE)
+                .concatMap(chunk -> enrichWithUserData(chunk, token), 1)
+                .concatMapIterable(Function.identity());
+    }
+
+    private Mono<List<LoanPageableDTO>> enrichWithUserData(List<LoanPageableDTO> loans, String token) {
+        Set<String> emails = loans.stream()
+                .map(LoanPageableDTO::email)
+                .collect(Collectors.toSet());
+
+        return userClient.getUsersByEmails(emails, token)
+                .map(userMap -> loans.stream()
+                        .map(loan -> {
+                            UserDTO user = userMap.get(loan.email());
+                            return new LoanPageableDTO(
+                                    loan.loanId(),
+                                    loan.amount(),
+                                    loan.termMonths(),
+                                    loan.email(),
+                                    user != null ? user.name() + " " + user.lastname() : null,
+                                    loan.loanType(),
+                                    loan.interestRate(),
+                                    loan.status(),
+                                    user != null ? user.baseSalary() : null,
+                                    loan.amount().divide(
+                                            BigDecimal.valueOf(loan.termMonths()),
+                                            2,
+                                            RoundingMode.HALF_UP
+                                    ),
+                                    loan.createdAt()
+                            );
+                        })
+                        .toList());
+    }
+
+    /**
+     * Moves a loan to {@code status}. The applicant's name is resolved before the transaction opens, so the
+     * transaction holds only the loan update, the counter transfer and the outbox insert.
+     */
     public Mono<Loan> updateLoanStatus(UUID loanId, String status, String token) {
         return loanRepository.findById(loanId)
                 .switchIfEmpty(Mono.error(new LoanNotFoundException(loanId)))
-                .flatMap(loan ->
-                        getStatusIdByName(status)
-                                .flatMap(loanStatus -> {
-                                    if (loanStatus.getStatusId().intValue() == loan.getStatusId()) {
-                                        return Mono.error(new IllegalArgumentException(
-                                                "Loan is already in status: " + status
-                                        ));
-                                    }
-                                    loan.setStatusId(loanStatus.getStatusId());
-                                    return loanRepository.saveLoanApplication(loan);
-                                })
-                )
-                .flatMap(updatedLoan ->
-                        getUserNameByEmail(updatedLoan.getEmail(), token)
-                                .flatMap(userName ->
-                                                sqsPublisher.sendStatusUpdate(updatedLoan, status, userName)
-                                                        .thenReturn(updatedLoan)
-                                        ));
+                .flatMap(loan -> getStatusIdByName(status)
+                        .flatMap(loanStatus -> {
+                            if (loanStatus.getStatusId().intValue() == loan.getStatusId()) {
+                                return Mono.error(new IllegalArgumentException(
+                                        "Loan is already in status: " + status
+                                ));
+                            }
+                            return getUserNameByEmail(loan.getEmail(), token)
+                                    .flatMap(userName -> transactionRunner.inTransaction(
+                                            changeStatus(loan, loanStatus, userName)));
+                        }));
+    }
+
+    private Mono<Loan> changeStatus(Loan loan, LoanStatus loanStatus, String userName) {
+        Integer previousStatusId = loan.getStatusId();
+        loan.setStatusId(loanStatus.getStatusId());
+        return loanRepository.saveLoanApplication(loan)
+                .flatMap(savedLoan -> loanStatusCountRepository
+                        .transfer(previousStatusId, savedLoan.getStatusId(), 1)
+                        .then(loanStatusOutbox.append(LoanStatusEvent.builder()
+                                .eventId(UUID.randomUUID())
+                                .loanId(savedLoan.getLoanId())
+                                .email(savedLoan.getEmail())
+                                .username(userName)
+                                .status(loanStatus.getName())
+                                .build()))
+                        .thenReturn(savedLoan));
+    }
+
+    /**
+     * Moves several loans to {@code status} at once, reporting an outcome per distinct id in request order.
+     * Loans are read with one query and their users' names resolved with one user service call before a
+     * transaction opens; the transaction then holds only SQL: one update statement, a counter transfer per
+     * previous status and one outbox insert. Loans already in {@code status} or not found are reported, not
+     * updated.
+     */
+    public Flux<BulkStatusUpdateResult> updateLoanStatuses(List<UUID> loanIds, String status, String token) {
+        List<UUID> ids = loanIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return getStatusIdByName(status)
+                .flatMap(loanStatus -> loanRepository.findByIds(ids)
+                        .collectMap(Loan::getLoanId)
+                        .flatMap(found -> {
+                            List<Loan> candidates = ids.stream()
+                                    .map(found::get)
+                                    .filter(loan -> loan != null
+                                            && !loanStatus.getStatusId().equals(loan.getStatusId()))
+                                    .toList();
+                            if (candidates.isEmpty()) {
+                                return Mono.just(statusUpdateResults(ids, found.keySet(), Set.of()));
+                            }
+                            Set<String> emails = candidates.stream()
+                                    .map(Loan::getEmail)
+                                    .collect(Collectors.toSet());
+                            return userClient.getUsersByEmails(emails, token)
+                                    .flatMap(users -> transactionRunner.inTransaction(applyStatusChange(
+                                            candidates.stream().map(Loan::getLoanId).toList(), loanStatus, users)))
+                                    .map(changed -> statusUpdateResults(ids, found.keySet(), changed));
+                        }))
+                .flatMapIterable(Function.identity());
+    }
+
+    private Mono<Set<UUID>> applyStatusChange(List<UUID> loanIds, LoanStatus loanStatus, Map<String, UserDTO> users) {
+        return loanRepository.updateStatus(loanIds, loanStatus.getStatusId())
+                .collectList()
+                .flatMap(changes -> Flux.fromIterable(changes)
+                        .groupBy(LoanStatusChange::previousStatusId)
+                        .flatMap(byStatus -> byStatus.count()
+                                .flatMap(count -> loanStatusCountRepository
+                                        .transfer(byStatus.key(), loanStatus.getStatusId(), count)))
+                        .then(Mono.defer(() -> appendStatusEvents(changes, loanStatus.getName(), users)))
+                        .thenReturn(changes.stream()
+                                .map(LoanStatusChange::loanId)
+                                .collect(Collectors.toSet())));
+    }
+
+    private Mono<Void> appendStatusEvents(List<LoanStatusChange> changes, String status, Map<String, UserDTO> users) {
+        if (changes.isEmpty()) {
+            return Mono.empty();
+        }
+        return loanStatusOutbox.appendAll(changes.stream()
+                .map(change -> {
+                    UserDTO user = users.get(change.email());
+                    return LoanStatusEvent.builder()
+                            .eventId(UUID.randomUUID())
+                            .loanId(change.loanId())
+                            .email(change.email())
+                            .username(user != null ? user.name() + " " + user.lastname() : null)
+                            .status(status)
+                            .build();
+                })
+                .toList());
+    }
+
+    /**
+     * Status changes as they are committed, for live dashboards.
+     */
+    public Flux<LoanStatusEvent> statusChanges() {
+        return loanStatusFeed.events();
+    }
+
+    private static List<BulkStatusUpdateResult> statusUpdateResults(List<UUID> ids, Set<UUID> found,
+                                                                    Set<UUID> changed) {
+        return ids.stream()
+                .map(id -> new BulkStatusUpdateResult(id, changed.contains(id) ? Outcome.UPDATED
+                        : found.contains(id) ? Outcome.ALREADY_IN_STATUS
+                        : Outcome.NOT_FOUND))
+                .toList();
     }
 
     private Mono<LoanStatus> getStatusIdByName(String statusName) {
@@ -0,0 +1,28 @@
+package com.onix.usecase.loanapplication.decision;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * What the decision tree looks at, reduced to ratios once per loan so evaluating the tree is only
+ * comparisons. Ratios are kept to {@value #RATIO_SCALE} decimal places, rounded half up.
+ *
+ * @param monthlyIncome  the applicant's base salary; zero when unknown
+ * @param debtToIncome   monthly payments of the applicant's approved loans plus this one, over the income;
+ *                       {@code null} when the income is unknown
+ * @param amountToIncome the requested amount, in monthly salaries; {@code null} when the income is unknown
+ */
+public record DecisionInput(BigDecimal monthlyIncome, BigDecimal debtToIncome, BigDecimal amountToIncome) {
+
+    static final int RATIO_SCALE = 4;
+
+    public static DecisionInput of(BigDecimal amount, BigDecimal monthlyPayment, BigDecimal monthlyIncome,
+                                   BigDecimal existingObligations) {
+        if (monthlyIncome == null || monthlyIncome.signum() <= 0) {
+            return new DecisionInput(BigDecimal.ZERO, null, null);
+        }
+        return new DecisionInput(monthlyIncome,
+                existingObligations.add(monthlyPayment).divide(monthlyIncome, RATIO_SCALE, RoundingMode.HALF_UP),
+                amount.divide(monthlyIncome, RATIO_SCALE, RoundingMode.HALF_UP));
+    }
+}
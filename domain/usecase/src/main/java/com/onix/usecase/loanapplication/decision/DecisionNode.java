@@ -0,0 +1,27 @@
+package com.onix.usecase.loanapplication.decision;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Node of the compiled decision tree: either a fixed outcome or a threshold test on one input.
+ */
+@FunctionalInterface
+interface DecisionNode {
+
+    LoanDecision evaluate(DecisionInput input);
+
+    static DecisionNode leaf(LoanDecision decision) {
+        return input -> decision;
+    }
+
+    /**
+     * Goes to {@code atMost} when {@code feature} is at most {@code threshold}, to {@code above} otherwise.
+     */
+    static DecisionNode split(Function<DecisionInput, BigDecimal> feature, BigDecimal threshold,
+                              DecisionNode atMost, DecisionNode above) {
+        return input -> feature.apply(input).compareTo(threshold) <= 0
+                ? atMost.evaluate(input)
+                : above.evaluate(input);
+    }
+}
@@ -0,0 +1,17 @@
+package com.onix.usecase.loanapplication.decision;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LoanDecision {
+    APPROVE("Approved"),
+    REJECT("Rejected"),
+    MANUAL_REVIEW("Manually review");
+
+    /**
+     * Name of the loan status the decision moves the loan to.
+     */
+    private final String statusName;
+}
@@ -0,0 +1,65 @@
+package com.onix.usecase.loanapplication.decision;
+
+import static com.onix.usecase.loanapplication.decision.DecisionNode.leaf;
+import static com.onix.usecase.loanapplication.decision.DecisionNode.split;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Decides loans whose type has auto validation enabled. The rules are built once into a tree of threshold
+ * tests, so a decision is a handful of comparisons. Amounts and ratios are {@link BigDecimal}s with explicit
+ * rounding, so a loan right at a limit is decided the same way every time:
+ * <ul>
+ *     <li>without a known salary the loan goes to manual review;</li>
+ *     <li>it is rejected when its payment, added to the applicant's approved loans, takes more than
+ *     {@link #MAX_DEBT_TO_INCOME} of the salary;</li>
+ *     <li>otherwise it is approved, unless it is worth more than {@link #MAX_AMOUNT_TO_INCOME} salaries, in which
+ *     case a reviewer decides.</li>
+ * </ul>
+ */
+public final class LoanDecisionEngine {
+
+    public static final BigDecimal MAX_DEBT_TO_INCOME = new BigDecimal("0.35");
+    public static final BigDecimal MAX_AMOUNT_TO_INCOME = BigDecimal.valueOf(5);
+    private static final BigDecimal MONTHS_PER_YEAR_IN_PERCENT = BigDecimal.valueOf(1200);
+    private static final int PAYMENT_SCALE = 2;
+
+    private final DecisionNode root;
+
+    public LoanDecisionEngine() {
+        this(MAX_DEBT_TO_INCOME, MAX_AMOUNT_TO_INCOME);
+    }
+
+    public LoanDecisionEngine(BigDecimal maxDebtToIncome, BigDecimal maxAmountToIncome) {
+        this.root = split(DecisionInput::monthlyIncome, BigDecimal.ZERO,
+                leaf(LoanDecision.MANUAL_REVIEW),
+                split(DecisionInput::debtToIncome, maxDebtToIncome,
+                        split(DecisionInput::amountToIncome, maxAmountToIncome,
+                                leaf(LoanDecision.APPROVE),
+                                leaf(LoanDecision.MANUAL_REVIEW)),
+                        leaf(LoanDecision.REJECT)));
+    }
+
+    public LoanDecision decide(DecisionInput input) {
+        return root.evaluate(input);
+    }
+
+    /**
+     * Fixed monthly payment that repays {@code principal} over {@code termMonths} at {@code annualRatePercent}
+     * a year, compounded monthly. Intermediate values carry {@link MathContext#DECIMAL64} precision and the
+     * payment is rounded half up to cents.
+     */
+    public static BigDecimal monthlyPayment(BigDecimal principal, BigDecimal annualRatePercent, int termMonths) {
+        if (annualRatePercent == null || annualRatePercent.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(termMonths), PAYMENT_SCALE, RoundingMode.HALF_UP);
+        }
+        BigDecimal monthlyRate = annualRatePercent.divide(MONTHS_PER_YEAR_IN_PERCENT, MathContext.DECIMAL64);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(termMonths, MathContext.DECIMAL64);
+        BigDecimal discount = BigDecimal.ONE.subtract(BigDecimal.ONE.divide(growth, MathContext.DECIMAL64));
+        return principal.multiply(monthlyRate)
+                .divide(discount, MathContext.DECIMAL64)
+                .setScale(PAYMENT_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,41 @@
+package com.onix.usecase.loanapplication.validator;
+
+import com.onix.model.loanapplication.Loan;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A single validation rule over a {@link Loan}. {@link #check(Loan)} returns the violation message, or
+ * {@code null} when the loan satisfies the rule.
+ */
+@FunctionalInterface
+public interface LoanRule {
+
+    String check(Loan loan);
+
+    /**
+     * Runs {@code next} only when this rule passes, e.g. a format check that only makes sense once the field
+     * is known to be present.
+     */
+    default LoanRule andThen(LoanRule next) {
+        return loan -> {
+            String violation = check(loan);
+            return violation != null ? violation : next.check(loan);
+        };
+    }
+
+    static LoanRule that(Predicate<Loan> condition, String message) {
+        return loan -> condition.test(loan) ? null : message;
+    }
+
+    static LoanRule notNull(Function<Loan, ?> field, String message) {
+        return loan -> field.apply(loan) != null ? null : message;
+    }
+
+    static LoanRule notBlank(Function<Loan, String> field, String message) {
+        return loan -> {
+            String value = field.apply(loan);
+            return value != null && !value.isBlank() ? null : message;
+        };
+    }
+}
@@ -4,56 +4,45 @@ import com.onix.model.loanapplication.Loan;
 import com.onix.model.exception.ValidationException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
 public class LoanValidator {
 
-    public Mono<Void> validate(Loan loan) {
-        List<String> errors = new ArrayList<>();
-        validateAmount(loan, errors);
-        validateTerm(loan, errors);
-        validateEmail(loan, errors);
-        validateDocumentNumber(loan, errors);
+    private static final Pattern EMAIL_FORMAT = Pattern.compile("^[\\w-.]+@[\\w-]+\\.[a-z]{2,}$");
+
+    private static final LoanRule[] RULES = {
+            LoanRule.notNull(Loan::getAmount, "Amount cannot be null or empty"),
+            LoanRule.notNull(Loan::getTermMonths, "Terms in months cannot be null or empty"),
+            LoanRule.notNull(Loan::getEmail, "Email cannot be null")
+                    .andThen(LoanRule.that(loan -> EMAIL_FORMAT.matcher(loan.getEmail()).matches(), "Email format is invalid")),
+            LoanRule.notBlank(Loan::getDocumentNumber, "Document number cannot be null or empty")
+    };
 
+    public Mono<Void> validate(Loan loan) {
+        List<String> errors = violations(loan);
         if (!errors.isEmpty()) {
             return Mono.error(new ValidationException(errors));
         }
         return Mono.empty();
     }
 
-    private void validateAmount(Loan loan, List<String> errors) {
-        if (loan.getAmount() == null || isNullOrEmpty(loan.getAmount().toString())) {
-            errors.add("Amount cannot be null or empty");
-        }
-    }
-
-    private void validateTerm(Loan loan, List<String> errors) {
-        if (loan.getTermMonths() == null || isNullOrEmpty(loan.getTermMonths().toString())) {
-            errors.add("Terms in months cannot be null or empty");
-        }
-    }
-
-    private void validateEmail(Loan loan, List<String> errors) {
-        if (loan.getEmail() == null) {
-            errors.add("Email cannot be null");
-        } else if (!isValidEmail(loan.getEmail())) {
-            errors.add("Email format is invalid");
-        }
-    }
-
-    private void validateDocumentNumber(Loan loan, List<String> errors) {
-        if (isNullOrEmpty(loan.getDocumentNumber())) {
-            errors.add("Document number cannot be null or empty");
+    /**
+     * Messages of every rule the loan breaks, in rule order. A valid loan gets the shared empty list.
+     */
+    public List<String> violations(Loan loan) {
+        List<String> errors = null;
+        for (LoanRule rule : RULES) {
+            String violation = rule.check(loan);
+            if (violation != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>(RULES.length);
+                }
+                errors.add(violation);
+            }
         }
-    }
-
-    private boolean isNullOrEmpty(String str) {
-        return str == null || str.isBlank();
-    }
-
-    private boolean isValidEmail(String email) {
-        return email.matches("^[\\w-.]+@[\\w-]+\\.[a-z]{2,}$");
+        return errors == null ? List.of() : errors;
     }
 }
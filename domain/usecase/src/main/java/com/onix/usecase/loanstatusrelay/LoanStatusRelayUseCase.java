@@ -0,0 +1,47 @@
+package com.onix.usecase.loanstatusrelay;
+
+import com.onix.model.loanapplication.gateways.LoanStatusPublisher;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class LoanStatusRelayUseCase {
+
+    private static final int PUBLISH_CONCURRENCY = 10;
+
+    private final LoanStatusOutbox loanStatusOutbox;
+    private final LoanStatusPublisher loanStatusPublisher;
+
+    /**
+     * Publishes one batch of outbox events and deletes the ones that were accepted. Events that fail to
+     * publish stay in the outbox and are retried once their lease expires, so delivery is at-least-once.
+     *
+     * @return the number of events published
+     */
+    public Mono<Integer> relayBatch(int batchSize, Duration lease) {
+        return loanStatusOutbox.claimPending(batchSize, lease)
+                .flatMap(event -> loanStatusPublisher.publish(event)
+                        .thenReturn(event.getEventId())
+                        .onErrorResume(e -> Mono.<UUID>empty()), PUBLISH_CONCURRENCY)
+                .collectList()
+                .flatMap(published -> published.isEmpty()
+                        ? Mono.just(0)
+                        : loanStatusOutbox.delete(published).thenReturn(published.size()));
+    }
+
+    /**
+     * Relays batches until one comes back short, then reports the total published.
+     */
+    public Mono<Integer> drain(int batchSize, Duration lease) {
+        return relayBatch(batchSize, lease)
+                .expand(published -> published == batchSize ? relayBatch(batchSize, lease) : Mono.empty())
+                .reduce(0, Integer::sum);
+    }
+
+    public Mono<Duration> lag() {
+        return loanStatusOutbox.lag();
+    }
+}
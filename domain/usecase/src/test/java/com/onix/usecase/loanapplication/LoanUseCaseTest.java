@@ -2,37 +2,62 @@ package com.onix.usecase.loanapplication;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.onix.model.exception.AuthenticationServiceUnavailableException;
 import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.exception.ValidationException;
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult.Outcome;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
 import com.onix.model.loanapplication.dto.UserDTO;
 import com.onix.model.loanapplication.gateways.LoanRepository;
 import com.onix.model.loanapplication.gateways.UserClient;
+import com.onix.model.loanstatus.LoanStatus;
+import com.onix.model.loanstatus.gateways.LoanStatusCountRepository;
+import com.onix.model.loanstatus.gateways.LoanStatusRepository;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.model.loanstatusevent.gateways.LoanStatusFeed;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
 import com.onix.model.loantype.LoanType;
 import com.onix.model.loantype.gateways.LoanTypeRepository;
+import com.onix.model.transaction.gateways.TransactionRunner;
 import com.onix.model.exception.InvalidAmountLoanException;
 import com.onix.model.exception.InvalidLoanTypeException;
 import com.onix.usecase.loanapplication.validator.LoanValidator;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -51,6 +76,16 @@ class LoanUseCaseTest {
     private LoanTypeRepository loanTypeRepository;
     @Mock
     private UserClient userClient;
+    @Mock
+    private LoanStatusCountRepository loanStatusCountRepository;
+    @Mock
+    private LoanStatusRepository loanStatusRepository;
+    @Mock
+    private LoanStatusOutbox loanStatusOutbox;
+    @Mock
+    private LoanStatusFeed loanStatusFeed;
+    @Mock
+    private TransactionRunner transactionRunner;
     @InjectMocks
     private LoanUseCase loanUseCase;
 
@@ -75,8 +110,10 @@ class LoanUseCaseTest {
         validLoanType.setMaxAmount(BigDecimal.valueOf(10000));
 
         token = "test-token";
-        userDTO = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null, validLoan.getEmail(), 5000L);
+        userDTO = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null, validLoan.getEmail(), 5000L, "12345");
         lenient().when(userClient.getUsersByEmails(anySet(), anyString())).thenReturn(Mono.just(Map.of()));
+        lenient().when(transactionRunner.inTransaction(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(transactionRunner.inTransaction(any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     // --- Tests for createLoanApplication ---
@@ -88,12 +125,171 @@ class LoanUseCaseTest {
         when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(userDTO));
         when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
         when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.increment(any(), anyLong())).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
                 .expectNext(validLoan)
                 .verifyComplete();
         verify(loanRepository, times(1)).saveLoanApplication(validLoan);
+        verify(loanStatusCountRepository, times(1)).increment(validLoan.getStatusId(), 1);
+    }
+
+    @Test
+    void shouldNotCallRemoteChecksWhenLocalValidationFails() {
+        // Arrange
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.error(new ValidationException(List.of("Email format is invalid"))));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectError(ValidationException.class)
+                .verify();
+        verify(userClient, never()).validateUserRegistered(anyString(), anyString(), anyString());
+        verify(loanTypeRepository, never()).getLoanTypeById(anyInt());
+        verify(loanRepository, never()).saveLoanApplication(any());
+    }
+
+    @Test
+    void shouldRethrowSingleRuleViolationFromConcurrentChecks() {
+        // Arrange
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(userDTO));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectError(InvalidLoanTypeException.class)
+                .verify();
+        verify(loanRepository, never()).saveLoanApplication(any());
+    }
+
+    @Test
+    void shouldAggregateRuleViolationsFromConcurrentChecks() {
+        // Arrange
+        validLoan.setAmount(BigDecimal.valueOf(15000));
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString()))
+                .thenReturn(Mono.error(new UnregisteredUserException(validLoan.getEmail(), validLoan.getDocumentNumber())));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectErrorSatisfies(throwable -> {
+                    assertTrue(throwable instanceof ValidationException);
+                    assertEquals(2, ((ValidationException) throwable).getErrors().size());
+                })
+                .verify();
+        verify(loanRepository, never()).saveLoanApplication(any());
+    }
+
+    @Test
+    void shouldShortCircuitOnFatalFailureFromConcurrentChecks() {
+        // Arrange
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString()))
+                .thenReturn(Mono.error(new AuthenticationServiceUnavailableException(validLoan.getEmail(), validLoan.getDocumentNumber())));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.never());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectError(AuthenticationServiceUnavailableException.class)
+                .verify(Duration.ofSeconds(1));
+        verify(loanRepository, never()).saveLoanApplication(any());
+    }
+
+    @Test
+    void shouldAutoApproveLoanWhenLoanTypeHasAutoValidation() {
+        // Arrange
+        validLoanType.setInterestRate(BigDecimal.valueOf(12));
+        validLoanType.setAutoValidation(true);
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(userDTO));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanRepository.findByEmailAndStatus(validLoan.getEmail(), 3)).thenReturn(Flux.empty());
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.increment(3, 1)).thenReturn(Mono.empty());
+        when(loanStatusOutbox.append(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectNextMatches(loan -> loan.getStatusId() == 3)
+                .verifyComplete();
+        ArgumentCaptor<LoanStatusEvent> event = ArgumentCaptor.forClass(LoanStatusEvent.class);
+        verify(loanStatusOutbox).append(event.capture());
+        assertEquals("Approved", event.getValue().getStatus());
+        assertEquals("John Doe", event.getValue().getUsername());
+    }
+
+    @Test
+    void shouldAutoRejectLoanWhenApprovedLoansExceedDebtCapacity() {
+        // Arrange
+        validLoanType.setInterestRate(BigDecimal.valueOf(12));
+        validLoanType.setAutoValidation(true);
+        Loan approvedLoan = new Loan();
+        approvedLoan.setLoanTypeId(1);
+        approvedLoan.setAmount(BigDecimal.valueOf(20000));
+        approvedLoan.setTermMonths(12);
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(userDTO));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanStatusRepository.getStatusByName("Rejected")).thenReturn(Mono.just(new LoanStatus(5, "Rejected")));
+        when(loanRepository.findByEmailAndStatus(validLoan.getEmail(), 3)).thenReturn(Flux.just(approvedLoan));
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.increment(5, 1)).thenReturn(Mono.empty());
+        when(loanStatusOutbox.append(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectNextMatches(loan -> loan.getStatusId() == 5)
+                .verifyComplete();
+        ArgumentCaptor<LoanStatusEvent> event = ArgumentCaptor.forClass(LoanStatusEvent.class);
+        verify(loanStatusOutbox).append(event.capture());
+        assertEquals("Rejected", event.getValue().getStatus());
+    }
+
+    @Test
+    void shouldMoveLoanToManualReviewWhenEngineRequestsIt() {
+        // Arrange
+        validLoanType.setInterestRate(BigDecimal.valueOf(12));
+        validLoanType.setAutoValidation(true);
+        UserDTO withoutSalary = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null, validLoan.getEmail(), null, "12345");
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(withoutSalary));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanStatusRepository.getStatusByName("Manually review")).thenReturn(Mono.just(new LoanStatus(6, "Manually review")));
+        when(loanRepository.findByEmailAndStatus(validLoan.getEmail(), 3)).thenReturn(Flux.empty());
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.increment(6, 1)).thenReturn(Mono.empty());
+        when(loanStatusOutbox.append(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectNextMatches(loan -> loan.getStatusId() == 6)
+                .verifyComplete();
+        ArgumentCaptor<LoanStatusEvent> event = ArgumentCaptor.forClass(LoanStatusEvent.class);
+        verify(loanStatusOutbox).append(event.capture());
+        assertEquals("Manually review", event.getValue().getStatus());
+    }
+
+    @Test
+    void shouldNotRunDecisionEngineWhenLoanTypeHasNoAutoValidation() {
+        // Arrange
+        validLoanType.setAutoValidation(false);
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(anyString(), anyString(), anyString())).thenReturn(Mono.just(userDTO));
+        when(loanTypeRepository.getLoanTypeById(anyInt())).thenReturn(Mono.just(validLoanType));
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.increment(any(), anyLong())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplication(validLoan, token))
+                .expectNext(validLoan)
+                .verifyComplete();
+        verify(loanRepository, never()).findByEmailAndStatus(anyString(), anyInt());
+        verify(loanStatusOutbox, never()).append(any());
     }
 
 //    @Test
@@ -187,11 +383,11 @@ class LoanUseCaseTest {
 
         LoanPageableDTO loanPageableDTO = new LoanPageableDTO(
                 UUID.randomUUID(), BigDecimal.valueOf(5000), 12, testEmail,
-                null, "Personal", BigDecimal.valueOf(10), "Pending Review", null, null
+                null, "Personal", BigDecimal.valueOf(10), "Pending Review", null, null, LocalDateTime.now()
         );
-        UserDTO userDTO = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null, testEmail, 5000L);
+        UserDTO userDTO = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null, testEmail, 5000L, "12345");
 
-        when(loanRepository.findPendingLoans(page, size, sortBy, filter)).thenReturn(Flux.just(loanPageableDTO));
+        when(loanRepository.findPendingLoans(page, size, LoanSortField.EMAIL, filter)).thenReturn(Flux.just(loanPageableDTO));
         when(loanRepository.countPendingLoans(filter)).thenReturn(Mono.just(1L));
         when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(testEmail, userDTO)));
 
@@ -214,7 +410,7 @@ class LoanUseCaseTest {
         String sortBy = "email";
         String filter = "Pending Review";
 
-        when(loanRepository.findPendingLoans(page, size, sortBy, filter)).thenReturn(Flux.empty());
+        when(loanRepository.findPendingLoans(page, size, LoanSortField.EMAIL, filter)).thenReturn(Flux.empty());
         when(loanRepository.countPendingLoans(filter)).thenReturn(Mono.just(0L));
 
         // Act & Assert
@@ -226,4 +422,395 @@ class LoanUseCaseTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetFirstCursorPageWithContinuationToken() {
+        // Arrange
+        int size = 1;
+        String sortBy = "email";
+        String filter = "Pending Review";
+        LoanPageableDTO first = new LoanPageableDTO(
+                UUID.randomUUID(), BigDecimal.valueOf(5000), 12, "a@example.com",
+                null, "Personal", BigDecimal.valueOf(10), "Pending Review", null, null, LocalDateTime.now()
+        );
+        LoanPageableDTO second = new LoanPageableDTO(
+                UUID.randomUUID(), BigDecimal.valueOf(7000), 24, "b@example.com",
+                null, "Personal", BigDecimal.valueOf(10), "Pending Review", null, null, LocalDateTime.now()
+        );
+
+        when(loanRepository.findPendingLoans(null, size + 1, LoanSortField.EMAIL, filter)).thenReturn(Flux.just(first, second));
+        when(loanRepository.countPendingLoans(filter)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.getPendingLoans("", size, sortBy, filter, token))
+                .assertNext(pageDTO -> {
+                    assertEquals(1, pageDTO.content().size());
+                    assertEquals(first.loanId(), pageDTO.content().get(0).loanId());
+                    assertTrue(pageDTO.hasNext());
+                    assertEquals(LoanCursor.of(LoanSortField.EMAIL, first), LoanCursor.decode(pageDTO.nextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSeekAfterCursorAndReturnLastPage() {
+        // Arrange
+        int size = 2;
+        String sortBy = "email";
+        String filter = "Pending Review";
+        LoanCursor cursor = new LoanCursor(LoanSortField.EMAIL, "a@example.com", UUID.randomUUID());
+        LoanPageableDTO last = new LoanPageableDTO(
+                UUID.randomUUID(), BigDecimal.valueOf(7000), 24, "b@example.com",
+                null, "Personal", BigDecimal.valueOf(10), "Pending Review", null, null, LocalDateTime.now()
+        );
+
+        when(loanRepository.findPendingLoans(cursor, size + 1, LoanSortField.EMAIL, filter)).thenReturn(Flux.just(last));
+        when(loanRepository.countPendingLoans(filter)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.getPendingLoans(cursor.encode(), size, sortBy, filter, token))
+                .assertNext(pageDTO -> {
+                    assertEquals(1, pageDTO.content().size());
+                    assertTrue(pageDTO.hasPrevious());
+                    assertNull(pageDTO.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        StepVerifier.create(loanUseCase.getPendingLoans("not-a-cursor", 2, "email", "Pending Review", token))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(loanRepository, never()).findPendingLoans(any(LoanCursor.class), anyInt(), any(LoanSortField.class), anyString());
+    }
+
+    @Test
+    void shouldRejectSortFieldOutsideWhitelist() {
+        StepVerifier.create(loanUseCase.getPendingLoans(0, 2, "document_number; DROP TABLE loan_application", "Pending Review", token))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(loanRepository, never()).findPendingLoans(anyInt(), anyInt(), any(LoanSortField.class), anyString());
+    }
+
+    @Test
+    void shouldRejectCursorIssuedForAnotherSortField() {
+        LoanCursor cursor = new LoanCursor(LoanSortField.AMOUNT, "5000", UUID.randomUUID());
+
+        StepVerifier.create(loanUseCase.getPendingLoans(cursor.encode(), 2, "email", "Pending Review", token))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    // --- Tests for updateLoanStatus ---
+
+    @Test
+    void shouldAppendStatusEventToOutboxInsteadOfPublishing() {
+        // Arrange
+        validLoan.setStatusId(1);
+        when(loanRepository.findById(validLoan.getLoanId())).thenReturn(Mono.just(validLoan));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.transfer(1, 3, 1)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(validLoan.getEmail(), null, token)).thenReturn(Mono.just(userDTO));
+        when(loanStatusOutbox.append(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.updateLoanStatus(validLoan.getLoanId(), "Approved", token))
+                .expectNext(validLoan)
+                .verifyComplete();
+        ArgumentCaptor<LoanStatusEvent> event = ArgumentCaptor.forClass(LoanStatusEvent.class);
+        verify(loanStatusOutbox, times(1)).append(event.capture());
+        assertEquals(validLoan.getLoanId(), event.getValue().getLoanId());
+        assertEquals("Approved", event.getValue().getStatus());
+        assertEquals("John Doe", event.getValue().getUsername());
+    }
+
+    @Test
+    void shouldResolveUserNameBeforeOpeningStatusTransaction() {
+        // Arrange
+        validLoan.setStatusId(1);
+        when(loanRepository.findById(validLoan.getLoanId())).thenReturn(Mono.just(validLoan));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanRepository.saveLoanApplication(validLoan)).thenReturn(Mono.just(validLoan));
+        when(loanStatusCountRepository.transfer(1, 3, 1)).thenReturn(Mono.empty());
+        when(userClient.validateUserRegistered(validLoan.getEmail(), null, token)).thenReturn(Mono.just(userDTO));
+        when(loanStatusOutbox.append(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.updateLoanStatus(validLoan.getLoanId(), "Approved", token))
+                .expectNext(validLoan)
+                .verifyComplete();
+        InOrder order = inOrder(userClient, transactionRunner, loanRepository);
+        order.verify(userClient).validateUserRegistered(validLoan.getEmail(), null, token);
+        order.verify(transactionRunner).inTransaction(any(Mono.class));
+        order.verify(loanRepository).saveLoanApplication(validLoan);
+    }
+
+    @Test
+    void shouldNotOpenStatusTransactionWhenUserLookupFails() {
+        // Arrange
+        validLoan.setStatusId(1);
+        when(loanRepository.findById(validLoan.getLoanId())).thenReturn(Mono.just(validLoan));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(userClient.validateUserRegistered(validLoan.getEmail(), null, token))
+                .thenReturn(Mono.error(new AuthenticationServiceUnavailableException(validLoan.getEmail(), null)));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.updateLoanStatus(validLoan.getLoanId(), "Approved", token))
+                .expectError(AuthenticationServiceUnavailableException.class)
+                .verify();
+        verify(transactionRunner, never()).inTransaction(any(Mono.class));
+        verify(loanRepository, never()).saveLoanApplication(any());
+        assertEquals(1, validLoan.getStatusId());
+    }
+
+    // --- Tests for exportLoans ---
+
+    @Test
+    void shouldEnrichExportedLoansOneChunkAtATime() {
+        // Arrange
+        int total = LoanUseCase.EXPORT_CHUNK_SIZE + 1;
+        List<LoanPageableDTO> rows = IntStream.range(0, total)
+                .mapToObj(i -> new LoanPageableDTO(UUID.randomUUID(), BigDecimal.valueOf(1200), 12,
+                        "user" + i + "@example.com", null, "Personal", BigDecimal.TEN, "Pending Review",
+                        null, null, LocalDateTime.now()))
+                .toList();
+        when(loanRepository.streamLoans("Pending Review")).thenReturn(Flux.fromIterable(rows));
+        when(userClient.getUsersByEmails(anySet(), eq(token)))
+                .thenReturn(Mono.just(Map.of("user0@example.com", userDTO)));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.exportLoans("Pending Review", token))
+                .assertNext(first -> {
+                    assertEquals("John Doe", first.userName());
+                    assertEquals(new BigDecimal("100.00"), first.monthlyAmountRequested());
+                })
+                .expectNextCount(total - 1L)
+                .verifyComplete();
+        verify(userClient, times(2)).getUsersByEmails(anySet(), eq(token));
+    }
+
+    // --- Tests for createLoanApplications ---
+
+    @Test
+    void shouldReportEachBulkItemAndInsertOnlyAcceptedOnes() {
+        // Arrange
+        validLoan.setLoanId(null);
+        Loan unregistered = validLoan.toBuilder().email("unknown@example.com").build();
+        Loan invalid = validLoan.toBuilder().email("not-an-email").build();
+        Loan saved = validLoan.toBuilder().loanId(UUID.randomUUID()).statusId(1).build();
+        when(loanValidator.validate(any(Loan.class))).thenReturn(Mono.empty());
+        when(loanValidator.validate(invalid)).thenReturn(Mono.error(new ValidationException(List.of("Email format is invalid"))));
+        when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(validLoan.getEmail(), userDTO)));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(validLoanType));
+        when(loanRepository.saveLoanApplications(List.of(validLoan))).thenReturn(Flux.just(saved));
+        when(loanStatusCountRepository.increment(1, 1L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.just(validLoan, unregistered, invalid), token))
+                .assertNext(result -> {
+                    assertEquals(0, result.index());
+                    assertTrue(result.accepted());
+                    assertEquals(saved.getLoanId(), result.loan().getLoanId());
+                })
+                .assertNext(result -> {
+                    assertEquals(1, result.index());
+                    assertEquals(List.of(new UnregisteredUserException("unknown@example.com", "12345").getMessage()),
+                            result.errors());
+                })
+                .assertNext(result -> assertEquals(List.of("Email format is invalid"), result.errors()))
+                .verifyComplete();
+        verify(userClient, times(1)).getUsersByEmails(anySet(), eq(token));
+        verify(loanRepository, never()).saveLoanApplication(any());
+    }
+
+    @Test
+    void shouldRejectBulkItemWhoseDocumentDoesNotMatchItsUser() {
+        // Arrange
+        validLoan.setLoanId(null);
+        Loan otherDocument = validLoan.toBuilder().documentNumber("99999").build();
+        Loan saved = validLoan.toBuilder().loanId(UUID.randomUUID()).statusId(1).build();
+        when(loanValidator.validate(any(Loan.class))).thenReturn(Mono.empty());
+        when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(validLoan.getEmail(), userDTO)));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(validLoanType));
+        when(loanRepository.saveLoanApplications(List.of(validLoan))).thenReturn(Flux.just(saved));
+        when(loanStatusCountRepository.increment(1, 1L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.just(validLoan, otherDocument), token))
+                .assertNext(result -> assertTrue(result.accepted()))
+                .assertNext(result -> assertEquals(
+                        List.of(new UnregisteredUserException(validLoan.getEmail(), "99999").getMessage()),
+                        result.errors()))
+                .verifyComplete();
+        verify(userClient, never()).validateUserRegistered(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldValidateBulkItemDocumentIndividuallyWhenProfileHasNone() {
+        // Arrange
+        validLoan.setLoanId(null);
+        UserDTO withoutDocument = new UserDTO(UUID.randomUUID(), "John", "Doe", null, null, null,
+                validLoan.getEmail(), 5000L, null);
+        Loan saved = validLoan.toBuilder().loanId(UUID.randomUUID()).statusId(1).build();
+        when(loanValidator.validate(any(Loan.class))).thenReturn(Mono.empty());
+        when(userClient.getUsersByEmails(anySet(), eq(token)))
+                .thenReturn(Mono.just(Map.of(validLoan.getEmail(), withoutDocument)));
+        when(userClient.validateUserRegistered(validLoan.getEmail(), "12345", token)).thenReturn(Mono.just(userDTO));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(validLoanType));
+        when(loanRepository.saveLoanApplications(List.of(validLoan))).thenReturn(Flux.just(saved));
+        when(loanStatusCountRepository.increment(1, 1L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.just(validLoan), token))
+                .assertNext(result -> assertTrue(result.accepted()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDecideAutoValidatedBulkItemsCountingApprovalsEarlierInTheChunk() {
+        // Arrange
+        validLoan.setLoanId(null);
+        validLoanType.setInterestRate(BigDecimal.valueOf(12));
+        validLoanType.setAutoValidation(true);
+        List<Loan> loans = IntStream.range(0, 4).mapToObj(i -> validLoan.toBuilder().build()).toList();
+        when(loanValidator.validate(any(Loan.class))).thenReturn(Mono.empty());
+        when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(validLoan.getEmail(), userDTO)));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(validLoanType));
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanStatusRepository.getStatusByName("Rejected")).thenReturn(Mono.just(new LoanStatus(5, "Rejected")));
+        when(loanStatusRepository.getStatusByName("Manually review")).thenReturn(Mono.just(new LoanStatus(6, "Manually review")));
+        when(loanRepository.findByEmailsAndStatus(Set.of(validLoan.getEmail()), 3)).thenReturn(Flux.empty());
+        when(loanRepository.saveLoanApplications(loans)).thenAnswer(invocation -> Flux.fromIterable(loans)
+                .map(loan -> loan.toBuilder().loanId(UUID.randomUUID()).build()));
+        when(loanStatusCountRepository.increment(3, 3L)).thenReturn(Mono.empty());
+        when(loanStatusCountRepository.increment(5, 1L)).thenReturn(Mono.empty());
+        when(loanStatusOutbox.appendAll(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.fromIterable(loans), token))
+                .expectNextCount(4)
+                .verifyComplete();
+        // Each payment is 444.24 of a 5000 salary: the fourth approval would pass the 35% debt-to-income limit.
+        assertEquals(List.of(3, 3, 3, 5), loans.stream().map(Loan::getStatusId).toList());
+        ArgumentCaptor<List<LoanStatusEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(loanStatusOutbox, times(1)).appendAll(events.capture());
+        assertEquals(List.of("Approved", "Approved", "Approved", "Rejected"),
+                events.getValue().stream().map(LoanStatusEvent::getStatus).toList());
+        assertEquals("John Doe", events.getValue().getFirst().getUsername());
+        verify(loanRepository, never()).findByEmailAndStatus(anyString(), anyInt());
+    }
+
+    @Test
+    void shouldNotInsertWhenEveryBulkItemIsRejected() {
+        // Arrange
+        when(loanValidator.validate(validLoan)).thenReturn(Mono.error(new ValidationException(List.of("Email format is invalid"))));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.just(validLoan), token))
+                .assertNext(result -> assertEquals(List.of("Email format is invalid"), result.errors()))
+                .verifyComplete();
+        verify(loanRepository, never()).saveLoanApplications(any());
+        verify(loanStatusCountRepository, never()).increment(any(), anyLong());
+    }
+
+    @Test
+    void shouldReportFailedChunkPerItemAndCommitEachChunkOnItsOwn() {
+        // Arrange
+        validLoan.setLoanId(null);
+        when(loanValidator.validate(any(Loan.class))).thenReturn(Mono.empty());
+        when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(validLoan.getEmail(), userDTO)));
+        when(loanTypeRepository.getLoanTypeById(1)).thenReturn(Mono.just(validLoanType));
+        when(loanRepository.saveLoanApplications(List.of(validLoan)))
+                .thenReturn(Flux.error(new IllegalStateException("duplicate key value")));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.createLoanApplications(Flux.just(validLoan), token))
+                .assertNext(result -> {
+                    assertEquals(0, result.index());
+                    assertEquals(List.of(LoanUseCase.BULK_SAVE_FAILED), result.errors());
+                })
+                .verifyComplete();
+        InOrder order = inOrder(userClient, transactionRunner);
+        order.verify(userClient).getUsersByEmails(anySet(), eq(token));
+        order.verify(transactionRunner).inTransaction(any(Mono.class));
+        verify(loanStatusCountRepository, never()).increment(any(), anyLong());
+    }
+
+    // --- Tests for updateLoanStatuses ---
+
+    @Test
+    void shouldUpdateStatusesWithOneStatementAndBatchTheirEvents() {
+        // Arrange
+        Loan pending = validLoan.toBuilder().statusId(1).build();
+        Loan rejected = validLoan.toBuilder().loanId(UUID.randomUUID()).email("other@example.com").statusId(4).build();
+        Loan approved = validLoan.toBuilder().loanId(UUID.randomUUID()).statusId(3).build();
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(pending.getLoanId(), rejected.getLoanId(), approved.getLoanId(), missing);
+        List<UUID> candidates = List.of(pending.getLoanId(), rejected.getLoanId());
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanRepository.findByIds(ids)).thenReturn(Flux.just(pending, rejected, approved));
+        when(loanRepository.updateStatus(candidates, 3)).thenReturn(Flux.just(
+                new LoanStatusChange(pending.getLoanId(), pending.getEmail(), 1),
+                new LoanStatusChange(rejected.getLoanId(), rejected.getEmail(), 4)));
+        when(loanStatusCountRepository.transfer(1, 3, 1L)).thenReturn(Mono.empty());
+        when(loanStatusCountRepository.transfer(4, 3, 1L)).thenReturn(Mono.empty());
+        when(userClient.getUsersByEmails(anySet(), eq(token))).thenReturn(Mono.just(Map.of(validLoan.getEmail(), userDTO)));
+        when(loanStatusOutbox.appendAll(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.updateLoanStatuses(ids, "Approved", token))
+                .expectNext(new BulkStatusUpdateResult(pending.getLoanId(), Outcome.UPDATED))
+                .expectNext(new BulkStatusUpdateResult(rejected.getLoanId(), Outcome.UPDATED))
+                .expectNext(new BulkStatusUpdateResult(approved.getLoanId(), Outcome.ALREADY_IN_STATUS))
+                .expectNext(new BulkStatusUpdateResult(missing, Outcome.NOT_FOUND))
+                .verifyComplete();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LoanStatusEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(loanStatusOutbox, times(1)).appendAll(events.capture());
+        assertEquals(Arrays.asList("John Doe", null), events.getValue().stream()
+                .map(LoanStatusEvent::getUsername)
+                .toList());
+        verify(userClient, times(1)).getUsersByEmails(anySet(), eq(token));
+        verify(loanRepository, never()).saveLoanApplication(any());
+        verify(loanStatusOutbox, never()).append(any());
+        InOrder order = inOrder(userClient, transactionRunner, loanRepository);
+        order.verify(userClient).getUsersByEmails(anySet(), eq(token));
+        order.verify(transactionRunner).inTransaction(any(Mono.class));
+        order.verify(loanRepository).updateStatus(candidates, 3);
+    }
+
+    @Test
+    void shouldNotUpdateWhenEveryLoanIsAlreadyInStatus() {
+        // Arrange
+        validLoan.setStatusId(3);
+        when(loanStatusRepository.getStatusByName("Approved")).thenReturn(Mono.just(new LoanStatus(3, "Approved")));
+        when(loanRepository.findByIds(List.of(validLoan.getLoanId()))).thenReturn(Flux.just(validLoan));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.updateLoanStatuses(List.of(validLoan.getLoanId()), "Approved", token))
+                .expectNext(new BulkStatusUpdateResult(validLoan.getLoanId(), Outcome.ALREADY_IN_STATUS))
+                .verifyComplete();
+        verify(loanRepository, never()).updateStatus(any(), any());
+        verify(loanStatusOutbox, never()).appendAll(any());
+        verify(userClient, never()).getUsersByEmails(anySet(), anyString());
+        verify(transactionRunner, never()).inTransaction(any(Mono.class));
+    }
+
+    @Test
+    void shouldStreamStatusChangesFromFeed() {
+        // Arrange
+        LoanStatusEvent event = LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(validLoan.getLoanId())
+                .status("Approved")
+                .build();
+        when(loanStatusFeed.events()).thenReturn(Flux.just(event));
+
+        // Act & Assert
+        StepVerifier.create(loanUseCase.statusChanges())
+                .expectNext(event)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,76 @@
+package com.onix.usecase.loanapplication.decision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoanDecisionEngineTest {
+
+    private LoanDecisionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LoanDecisionEngine();
+    }
+
+    @Test
+    void shouldAmortizeAtMonthlyRate() {
+        assertEquals(new BigDecimal("444.24"), LoanDecisionEngine.monthlyPayment(BigDecimal.valueOf(5000), BigDecimal.valueOf(12), 12));
+        assertEquals(new BigDecimal("500.00"), LoanDecisionEngine.monthlyPayment(BigDecimal.valueOf(6000), BigDecimal.ZERO, 12));
+        assertEquals(new BigDecimal("500.00"), LoanDecisionEngine.monthlyPayment(BigDecimal.valueOf(6000), null, 12));
+    }
+
+    @Test
+    void shouldRoundPaymentHalfUpToCents() {
+        assertEquals(new BigDecimal("333.34"), LoanDecisionEngine.monthlyPayment(new BigDecimal("1000.02"), null, 3));
+        assertEquals(new BigDecimal("333.33"), LoanDecisionEngine.monthlyPayment(new BigDecimal("1000.00"), null, 3));
+    }
+
+    @Test
+    void shouldApproveWhenPaymentFitsAndAmountIsWithinSalaryMultiple() {
+        DecisionInput input = input(5000, "444.24", 5000, "0");
+
+        assertEquals(LoanDecision.APPROVE, engine.decide(input));
+    }
+
+    @Test
+    void shouldRejectWhenPaymentsExceedDebtToIncomeLimit() {
+        DecisionInput input = input(5000, "444.24", 5000, "1776.98");
+
+        assertEquals(LoanDecision.REJECT, engine.decide(input));
+    }
+
+    @Test
+    void shouldApproveAtExactlyTheDebtToIncomeLimit() {
+        DecisionInput input = input(1000, "1000", 4000, "400");
+
+        assertEquals(LoanDecision.APPROVE, engine.decide(input));
+    }
+
+    @Test
+    void shouldRoundDebtToIncomeHalfUpBeforeComparingWithTheLimit() {
+        assertEquals(LoanDecision.APPROVE, engine.decide(input(1000, "35004", 100000, "0")));
+        assertEquals(LoanDecision.REJECT, engine.decide(input(1000, "35005", 100000, "0")));
+    }
+
+    @Test
+    void shouldSendLargeLoansToManualReview() {
+        DecisionInput input = input(60000, "1000", 10000, "0");
+
+        assertEquals(LoanDecision.MANUAL_REVIEW, engine.decide(input));
+    }
+
+    @Test
+    void shouldSendLoansWithoutKnownSalaryToManualReview() {
+        assertEquals(LoanDecision.MANUAL_REVIEW, engine.decide(input(5000, "444.24", 0, "0")));
+        assertEquals(LoanDecision.MANUAL_REVIEW, engine.decide(DecisionInput.of(
+                BigDecimal.valueOf(5000), new BigDecimal("444.24"), null, BigDecimal.ZERO)));
+    }
+
+    private static DecisionInput input(long amount, String monthlyPayment, long monthlyIncome, String obligations) {
+        return DecisionInput.of(BigDecimal.valueOf(amount), new BigDecimal(monthlyPayment),
+                BigDecimal.valueOf(monthlyIncome), new BigDecimal(obligations));
+    }
+}
@@ -1,5 +1,7 @@
 package com.onix.usecase.loanapplication.validator;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 import com.onix.model.loanapplication.Loan;
 import com.onix.model.exception.ValidationException;
 import java.math.BigDecimal;
@@ -121,4 +123,16 @@ class LoanValidatorTest {
                         )))
                 .verify();
     }
+
+    @Test
+    void shouldReturnSharedEmptyListForValidLoan() {
+        Loan loan = Loan.builder()
+                .amount(BigDecimal.valueOf(5000))
+                .termMonths(12)
+                .email("valid@email.com")
+                .documentNumber("123456789")
+                .build();
+
+        assertSame(List.of(), validator.violations(loan));
+    }
 }
@@ -0,0 +1,93 @@
+package com.onix.usecase.loanstatusrelay;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.onix.model.loanapplication.gateways.LoanStatusPublisher;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class LoanStatusRelayUseCaseTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private LoanStatusOutbox loanStatusOutbox;
+    @Mock
+    private LoanStatusPublisher loanStatusPublisher;
+    @InjectMocks
+    private LoanStatusRelayUseCase loanStatusRelayUseCase;
+
+    @Test
+    void shouldDeleteOnlyPublishedEvents() {
+        // Arrange
+        LoanStatusEvent published = event();
+        LoanStatusEvent failed = event();
+        when(loanStatusOutbox.claimPending(10, LEASE)).thenReturn(Flux.just(published, failed));
+        when(loanStatusPublisher.publish(published)).thenReturn(Mono.empty());
+        when(loanStatusPublisher.publish(failed)).thenReturn(Mono.error(new RuntimeException("SQS unavailable")));
+        when(loanStatusOutbox.delete(List.of(published.getEventId()))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanStatusRelayUseCase.relayBatch(10, LEASE))
+                .expectNext(1)
+                .verifyComplete();
+        verify(loanStatusOutbox, times(1)).delete(List.of(published.getEventId()));
+    }
+
+    @Test
+    void shouldNotDeleteWhenNothingWasPublished() {
+        // Arrange
+        when(loanStatusOutbox.claimPending(10, LEASE)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanStatusRelayUseCase.relayBatch(10, LEASE))
+                .expectNext(0)
+                .verifyComplete();
+        verify(loanStatusOutbox, never()).delete(any());
+    }
+
+    @Test
+    void shouldKeepDrainingWhileBatchesAreFull() {
+        // Arrange
+        LoanStatusEvent first = event();
+        LoanStatusEvent second = event();
+        when(loanStatusOutbox.claimPending(1, LEASE))
+                .thenReturn(Flux.just(first))
+                .thenReturn(Flux.just(second))
+                .thenReturn(Flux.empty());
+        when(loanStatusPublisher.publish(any())).thenReturn(Mono.empty());
+        when(loanStatusOutbox.delete(any())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(loanStatusRelayUseCase.drain(1, LEASE))
+                .expectNext(2)
+                .verifyComplete();
+        verify(loanStatusOutbox, times(3)).claimPending(1, LEASE);
+    }
+
+    private static LoanStatusEvent event() {
+        return LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("test@example.com")
+                .username("Test User")
+                .status("Approved")
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.onix.r2dbc.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.util.context.Context;
+
+/**
+ * Total time pooled connections were held on behalf of one unit of work, such as an HTTP request. Put it in
+ * the Reactor Context with {@link #context()}; every connection acquired under that context adds its hold
+ * time when it is released.
+ */
+public final class ConnectionHoldTime {
+
+    static final String KEY = ConnectionHoldTime.class.getName();
+
+    private final AtomicLong heldNanos = new AtomicLong();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public Context context() {
+        return Context.of(KEY, this);
+    }
+
+    void add(long nanos) {
+        heldNanos.addAndGet(nanos);
+        connections.incrementAndGet();
+    }
+
+    public Duration total() {
+        return Duration.ofNanos(heldNanos.get());
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+}
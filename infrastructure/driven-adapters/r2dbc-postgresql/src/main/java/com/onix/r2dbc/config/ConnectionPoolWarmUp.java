@@ -0,0 +1,77 @@
+package com.onix.r2dbc.config;
+
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.r2dbc.repository.loan.LoanReactiveRepository;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Opens the initial connections of every pool and runs the hot statements once on each of them, so the first
+ * requests neither wait for a connection handshake nor pay for parsing and planning. It blocks the
+ * {@link ApplicationReadyEvent} thread on purpose, because Spring Boot only reports readiness once those
+ * listeners have returned. The block is bounded by {@code warm-up-timeout}. A failed or unfinished warm-up is
+ * logged and does not stop the application.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolWarmUp {
+
+    private static final String WARM_UP_STATUS = "Pending Review";
+    private static final Integer[] NO_STATUS_IDS = new Integer[0];
+
+    private final ReadWriteConnectionFactory connectionFactory;
+    private final PostgresqlConnectionProperties properties;
+    private final LoanReactiveRepository loanRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        PostgresqlConnectionProperties.Pool pool = properties.pool();
+        if (!pool.warmUp()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Mono<Void> warmUp = Flux.fromIterable(connectionFactory.pools())
+                .flatMap(metered -> metered.unwrap().warmup())
+                // Each transaction pins one connection, so running initialSize of them at once prepares the
+                // statements on every connection rather than on whichever one happens to be idle. Transactions
+                // marked read-only do the same on the replica, when there is one.
+                .thenMany(Flux.range(0, pool.initialSize())
+                        .flatMap(i -> prepareHotStatementsOnEveryPool(), pool.initialSize()))
+                .then();
+        try {
+            warmUp.block(pool.warmUpTimeout());
+            log.info("{} connection pool(s) warmed up in {} ms",
+                    connectionFactory.pools().size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Connection pool warm-up did not finish within {}: {}", pool.warmUpTimeout(), e.getMessage());
+        }
+    }
+
+    private Mono<Void> prepareHotStatementsOnEveryPool() {
+        Mono<Void> primary = prepareHotStatements().as(transactionalOperator::transactional);
+        if (connectionFactory.pools().size() == 1) {
+            return primary;
+        }
+        return Mono.when(primary, prepareHotStatements()
+                .as(transactionalOperator::transactional)
+                .contextWrite(ReadWriteConnectionFactory.readOnly()));
+    }
+
+    private Mono<Void> prepareHotStatements() {
+        return Flux.fromArray(LoanSortField.values())
+                .concatMap(sortBy -> loanRepository.findPageablePendingLoans(WARM_UP_STATUS, sortBy, 1, 0))
+                .then(loanRepository.countPendingLoans(NO_STATUS_IDS))
+                .then(loanRepository.findById(UUID.randomUUID().toString()))
+                .then();
+    }
+}
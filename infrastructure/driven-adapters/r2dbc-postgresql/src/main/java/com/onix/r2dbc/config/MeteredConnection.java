@@ -0,0 +1,140 @@
+package com.onix.r2dbc.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pooled connection that records how long it was held when it is closed, i.e. returned to the pool, and adds
+ * that time to the acquiring request's {@link ConnectionHoldTime}, if any.
+ */
+class MeteredConnection implements Connection, Wrapped<Connection> {
+
+    private final Connection delegate;
+    private final Timer usage;
+    private final long acquiredAt;
+    private final ConnectionHoldTime holdTime;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    MeteredConnection(Connection delegate, Timer usage, long acquiredAt, ConnectionHoldTime holdTime) {
+        this.delegate = delegate;
+        this.usage = usage;
+        this.acquiredAt = acquiredAt;
+        this.holdTime = holdTime;
+    }
+
+    @Override
+    public Publisher<Void> close() {
+        return Mono.defer(() -> {
+            if (released.compareAndSet(false, true)) {
+                long heldNanos = System.nanoTime() - acquiredAt;
+                usage.record(heldNanos, TimeUnit.NANOSECONDS);
+                if (holdTime != null) {
+                    holdTime.add(heldNanos);
+                }
+            }
+            return Mono.from(delegate.close());
+        });
+    }
+
+    @Override
+    public Publisher<Void> beginTransaction() {
+        return delegate.beginTransaction();
+    }
+
+    @Override
+    public Publisher<Void> beginTransaction(TransactionDefinition definition) {
+        return delegate.beginTransaction(definition);
+    }
+
+    @Override
+    public Publisher<Void> commitTransaction() {
+        return delegate.commitTransaction();
+    }
+
+    @Override
+    public Batch createBatch() {
+        return delegate.createBatch();
+    }
+
+    @Override
+    public Publisher<Void> createSavepoint(String name) {
+        return delegate.createSavepoint(name);
+    }
+
+    @Override
+    public Statement createStatement(String sql) {
+        return delegate.createStatement(sql);
+    }
+
+    @Override
+    public boolean isAutoCommit() {
+        return delegate.isAutoCommit();
+    }
+
+    @Override
+    public ConnectionMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public IsolationLevel getTransactionIsolationLevel() {
+        return delegate.getTransactionIsolationLevel();
+    }
+
+    @Override
+    public Publisher<Void> releaseSavepoint(String name) {
+        return delegate.releaseSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransaction() {
+        return delegate.rollbackTransaction();
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+        return delegate.rollbackTransactionToSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> setAutoCommit(boolean autoCommit) {
+        return delegate.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public Publisher<Void> setLockWaitTimeout(Duration timeout) {
+        return delegate.setLockWaitTimeout(timeout);
+    }
+
+    @Override
+    public Publisher<Void> setStatementTimeout(Duration timeout) {
+        return delegate.setStatementTimeout(timeout);
+    }
+
+    @Override
+    public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+        return delegate.setTransactionIsolationLevel(isolationLevel);
+    }
+
+    @Override
+    public Publisher<Boolean> validate(ValidationDepth depth) {
+        return delegate.validate(depth);
+    }
+
+    @Override
+    public Connection unwrap() {
+        return delegate;
+    }
+}
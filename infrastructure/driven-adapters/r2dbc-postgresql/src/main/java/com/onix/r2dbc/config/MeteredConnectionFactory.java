@@ -0,0 +1,75 @@
+package com.onix.r2dbc.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import java.util.concurrent.TimeUnit;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times every connection taken from the pool: how long the caller waited for it ({@code r2dbc.pool.acquire})
+ * and how long it was held before being returned ({@code r2dbc.pool.usage}), both as percentile histograms.
+ * When the subscriber's context carries a {@link ConnectionHoldTime}, the hold time is added to it as well.
+ * The pool's size gauges ({@code r2dbc.pool.acquired}, {@code r2dbc.pool.pending}, ...) are bound alongside
+ * it in {@link PostgreSQLConnectionPool}, under the same {@code name} tag.
+ */
+public class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionPool> {
+
+    private final ConnectionPool pool;
+    private final Timer acquired;
+    private final Timer acquireFailed;
+    private final Timer usage;
+
+    public MeteredConnectionFactory(ConnectionPool pool, String name, MeterRegistry registry) {
+        this.pool = pool;
+        this.acquired = acquireTimer(name, "success", registry);
+        this.acquireFailed = acquireTimer(name, "error", registry);
+        this.usage = Timer.builder("r2dbc.pool.usage")
+                .description("Time a connection is held between acquire and release")
+                .tag("name", name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer acquireTimer(String name, String outcome, MeterRegistry registry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting for a connection from the pool")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            ConnectionHoldTime holdTime = context.getOrDefault(ConnectionHoldTime.KEY, null);
+            return pool.create()
+                    .doOnError(e -> acquireFailed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .map(connection -> {
+                        long acquiredAt = System.nanoTime();
+                        acquired.record(acquiredAt - start, TimeUnit.NANOSECONDS);
+                        return new MeteredConnection(connection, usage, acquiredAt, holdTime);
+                    });
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionPool unwrap() {
+        return pool;
+    }
+
+    public void dispose() {
+        pool.dispose();
+    }
+}
@@ -1,42 +1,83 @@
 package com.onix.r2dbc.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import java.time.Duration;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 @Configuration
 public class PostgreSQLConnectionPool {
-    /* Change these values for your project */
-    public static final int INITIAL_SIZE = 12;
-    public static final int MAX_SIZE = 15;
-    public static final int MAX_IDLE_TIME = 30;
-    public static final int DEFAULT_PORT = 5432;
-
-	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
-		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
-                .host(properties.host())
-                .port(properties.port())
-                .database(properties.database())
-                .schema(properties.schema())
-                .username(properties.username())
-                .password(properties.password())
-                .build();
+
+    public static final String POOL_NAME = "api-postgres-connection-pool";
+    public static final String REPLICA_POOL_NAME = "api-postgres-replica-pool";
+
+    /**
+     * Builds the primary pool, and the replica pool when {@code adapters.r2dbc.postgres.replica.host} is set,
+     * behind a {@link ReadWriteConnectionFactory}. The driver already caches every prepared statement
+     * per connection; the cache is bounded here so the variable-width bulk statements cannot grow it without
+     * limit, while the parameterized queries on the request path stay parsed and planned once per connection.
+     */
+	@Bean(destroyMethod = "dispose")
+	public ReadWriteConnectionFactory getConnectionConfig(PostgresqlConnectionProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        MeteredConnectionFactory primary = pool(properties, properties.host(), properties.port(),
+                properties.pool(), null, POOL_NAME, meterRegistry);
+        if (!properties.hasReplica()) {
+            return new ReadWriteConnectionFactory(primary, null, null, meterRegistry);
+        }
+
+        PostgresqlConnectionProperties.Replica replica = properties.replica();
+        MeteredConnectionFactory replicaPool = pool(properties, replica.host(),
+                replica.port() != null ? replica.port() : properties.port(),
+                replica.pool(), replica.statementTimeout(), REPLICA_POOL_NAME, meterRegistry);
+        return new ReadWriteConnectionFactory(primary, replicaPool, replica.retryInterval(), meterRegistry);
+	}
+
+    private static MeteredConnectionFactory pool(PostgresqlConnectionProperties properties, String host,
+                                                 Integer port, PostgresqlConnectionProperties.Pool pool,
+                                                 Duration statementTimeout, String name,
+                                                 MeterRegistry meterRegistry) {
+		PostgresqlConnectionConfiguration.Builder dbConfiguration = connectionConfiguration(properties, host, port)
+                .preparedStatementCacheQueries(pool.preparedStatementCacheQueries());
+        if (statementTimeout != null) {
+            dbConfiguration.statementTimeout(statementTimeout);
+        }
 
         ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
+                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration.build()))
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifetime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
                 .validationQuery("SELECT 1")
                 .build();
 
-		return new ConnectionPool(poolConfiguration);
+        ConnectionPool connectionPool = new ConnectionPool(poolConfiguration);
+        // Spring Boot only binds pool gauges for ConnectionPool beans, and the pools here are not beans.
+        new ConnectionPoolMetrics(connectionPool, name, Tags.empty()).bindTo(meterRegistry);
+		return new MeteredConnectionFactory(connectionPool, name, meterRegistry);
 	}
-}
\ No newline at end of file
+
+    /**
+     * Driver settings shared by the pools and by connections opened outside them, such as the change feed's.
+     */
+    public static PostgresqlConnectionConfiguration.Builder connectionConfiguration(
+            PostgresqlConnectionProperties properties, String host, Integer port) {
+        return PostgresqlConnectionConfiguration.builder()
+                .host(host)
+                .port(port)
+                .database(properties.database())
+                .schema(properties.schema())
+                .username(properties.username())
+                .password(properties.password());
+    }
+}
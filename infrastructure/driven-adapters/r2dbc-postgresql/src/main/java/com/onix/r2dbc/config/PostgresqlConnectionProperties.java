@@ -1,5 +1,6 @@
 package com.onix.r2dbc.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "adapters.r2dbc.postgres")
@@ -9,5 +10,80 @@ public record PostgresqlConnectionProperties(
         String database,
         String schema,
         String username,
-        String password) {
+        String password,
+        Pool pool,
+        Replica replica) {
+
+    public PostgresqlConnectionProperties {
+        pool = pool != null ? pool : Pool.defaults();
+    }
+
+    public boolean hasReplica() {
+        return replica != null && replica.host() != null && !replica.host().isBlank();
+    }
+
+    /**
+     * Connection pool sizing and timeouts. Any value left out falls back to the default below.
+     *
+     * @param preparedStatementCacheQueries bound on the parsed statements kept per connection, least recently
+     *                                      used evicted first; the driver's own default, -1, keeps every
+     *                                      statement, and 0 disables the cache
+     * @param warmUp                        open {@code initialSize} connections and prepare the hot statements
+     *                                      before the application reports itself ready
+     * @param warmUpTimeout                 longest the warm-up may hold up startup
+     */
+    public record Pool(
+            Integer initialSize,
+            Integer maxSize,
+            Duration maxIdleTime,
+            Duration maxLifetime,
+            Duration maxAcquireTime,
+            Duration maxCreateConnectionTime,
+            Integer preparedStatementCacheQueries,
+            Boolean warmUp,
+            Duration warmUpTimeout) {
+
+        public Pool {
+            initialSize = initialSize != null ? initialSize : 12;
+            maxSize = maxSize != null ? maxSize : 15;
+            maxIdleTime = maxIdleTime != null ? maxIdleTime : Duration.ofMinutes(30);
+            maxLifetime = maxLifetime != null ? maxLifetime : Duration.ofHours(1);
+            maxAcquireTime = maxAcquireTime != null ? maxAcquireTime : Duration.ofSeconds(5);
+            maxCreateConnectionTime = maxCreateConnectionTime != null ? maxCreateConnectionTime : Duration.ofSeconds(5);
+            preparedStatementCacheQueries = preparedStatementCacheQueries != null ? preparedStatementCacheQueries : 256;
+            warmUp = warmUp != null ? warmUp : Boolean.TRUE;
+            warmUpTimeout = warmUpTimeout != null ? warmUpTimeout : Duration.ofSeconds(30);
+            if (initialSize > maxSize) {
+                throw new IllegalArgumentException(
+                        "Pool initialSize (" + initialSize + ") cannot exceed maxSize (" + maxSize + ")");
+            }
+        }
+
+        public static Pool defaults() {
+            return new Pool(null, null, null, null, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * Optional read-only endpoint for listing queries, with its own pool. It uses the primary's database,
+     * schema and credentials.
+     *
+     * @param retryInterval    how long reads stay on the primary after the replica fails to hand out a connection
+     * @param statementTimeout server-side limit for each statement on the replica's connections; unset keeps the
+     *                         server default. The export stream runs on the replica too, so size it for that. It is
+     *                         not applied to the primary, whose transactions must not be cut short, so reads that
+     *                         fall back to the primary run without it
+     */
+    public record Replica(
+            String host,
+            Integer port,
+            Pool pool,
+            Duration retryInterval,
+            Duration statementTimeout) {
+
+        public Replica {
+            pool = pool != null ? pool : Pool.defaults();
+            retryInterval = retryInterval != null ? retryInterval : Duration.ofSeconds(30);
+        }
+    }
 }
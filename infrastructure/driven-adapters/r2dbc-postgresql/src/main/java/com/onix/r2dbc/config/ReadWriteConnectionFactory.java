@@ -0,0 +1,95 @@
+package com.onix.r2dbc.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Routes connections between the primary pool and an optional replica pool. A subscription whose Reactor
+ * Context carries {@link #readOnly()} gets a replica connection; everything else, including every write,
+ * gets a primary one. If the replica cannot hand out a connection, the read falls back to the primary and
+ * reads stay there for the configured retry interval before the replica is tried again.
+ */
+@Slf4j
+public class ReadWriteConnectionFactory implements ConnectionFactory {
+
+    private static final String READ_ONLY_KEY = ReadWriteConnectionFactory.class.getName() + ".READ_ONLY";
+
+    private final MeteredConnectionFactory primary;
+    private final MeteredConnectionFactory replica;
+    private final Duration retryInterval;
+    private final LongSupplier nanoClock;
+    private final Counter fallbacks;
+    private volatile boolean replicaDown;
+    private volatile long replicaRetryAt;
+
+    public ReadWriteConnectionFactory(MeteredConnectionFactory primary, MeteredConnectionFactory replica,
+                                      Duration retryInterval, MeterRegistry registry) {
+        this(primary, replica, retryInterval, registry, System::nanoTime);
+    }
+
+    ReadWriteConnectionFactory(MeteredConnectionFactory primary, MeteredConnectionFactory replica,
+                               Duration retryInterval, MeterRegistry registry, LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryInterval = retryInterval;
+        this.nanoClock = nanoClock;
+        this.fallbacks = Counter.builder("r2dbc.replica.fallback")
+                .description("Read-only connections served by the primary because the replica failed")
+                .register(registry);
+    }
+
+    /**
+     * Context marking a subscription as read-only, for {@code contextWrite}.
+     */
+    public static Context readOnly() {
+        return Context.of(READ_ONLY_KEY, Boolean.TRUE);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.deferContextual(context -> {
+            if (replica == null || !context.getOrDefault(READ_ONLY_KEY, Boolean.FALSE) || !replicaAvailable()) {
+                return primary.create();
+            }
+            return replica.create()
+                    .doOnNext(connection -> replicaDown = false)
+                    .onErrorResume(e -> {
+                        replicaRetryAt = nanoClock.getAsLong() + retryInterval.toNanos();
+                        replicaDown = true;
+                        fallbacks.increment();
+                        log.warn("Replica connection failed, reading from the primary for {}: {}",
+                                retryInterval, e.getMessage());
+                        return primary.create();
+                    });
+        });
+    }
+
+    private boolean replicaAvailable() {
+        return !replicaDown || nanoClock.getAsLong() - replicaRetryAt >= 0;
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+
+    /**
+     * The primary pool followed by the replica pool, when there is one.
+     */
+    public List<MeteredConnectionFactory> pools() {
+        return replica == null ? List.of(primary) : List.of(primary, replica);
+    }
+
+    public void dispose() {
+        pools().forEach(MeteredConnectionFactory::dispose);
+    }
+}
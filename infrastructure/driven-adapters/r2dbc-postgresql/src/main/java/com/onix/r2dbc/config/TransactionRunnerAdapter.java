@@ -0,0 +1,25 @@
+package com.onix.r2dbc.config;
+
+import com.onix.model.transaction.gateways.TransactionRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionRunnerAdapter implements TransactionRunner {
+
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactionalOperator.transactional(work);
+    }
+
+    @Override
+    public <T> Flux<T> inTransaction(Flux<T> work) {
+        return transactionalOperator.transactional(work);
+    }
+}
@@ -1,6 +1,7 @@
 package com.onix.r2dbc.entity;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +26,5 @@ public class LoanEntity {
     private String email;
     private Integer loanTypeId;
     private Integer statusId;
+    private LocalDateTime createdAt;
 }
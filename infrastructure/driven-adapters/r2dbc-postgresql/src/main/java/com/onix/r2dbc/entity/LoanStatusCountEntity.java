@@ -0,0 +1,21 @@
+package com.onix.r2dbc.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table("loan_status_counts")
+public class LoanStatusCountEntity {
+    @Id
+    private Integer statusId;
+    private Long total;
+}
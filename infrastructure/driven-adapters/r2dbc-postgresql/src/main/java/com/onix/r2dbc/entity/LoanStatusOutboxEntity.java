@@ -0,0 +1,28 @@
+package com.onix.r2dbc.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table("loan_status_outbox")
+public class LoanStatusOutboxEntity {
+    @Id
+    private UUID eventId;
+    private UUID loanId;
+    private String email;
+    private String username;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime availableAt;
+}
@@ -1,6 +1,7 @@
 package com.onix.r2dbc.helper;
 
 import com.onix.r2dbc.entity.LoanEntity;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.reactivestreams.Publisher;
 import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
@@ -12,6 +13,14 @@ import reactor.core.publisher.Mono;
 public class LoanDefaultGenerator implements BeforeConvertCallback<LoanEntity> {
     @Override
     public Publisher<LoanEntity> onBeforeConvert(LoanEntity entity, SqlIdentifier table) {
+        return Mono.just(applyDefaults(entity));
+    }
+
+    /**
+     * Fills the id, status, loan type and creation time of a new loan; also used by inserts that bypass the
+     * entity callbacks.
+     */
+    public static LoanEntity applyDefaults(LoanEntity entity) {
         if (entity.getLoanId() == null) {
             entity.setLoanId(UUID.randomUUID());
         }
@@ -21,6 +30,9 @@ public class LoanDefaultGenerator implements BeforeConvertCallback<LoanEntity> {
         if (entity.getLoanTypeId() == null) {
             entity.setLoanTypeId(1);
         }
-        return Mono.just(entity);
+        if (entity.getCreatedAt() == null) {
+            entity.setCreatedAt(LocalDateTime.now());
+        }
+        return entity;
     }
 }
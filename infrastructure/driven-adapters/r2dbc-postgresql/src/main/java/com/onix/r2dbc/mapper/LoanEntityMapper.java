@@ -0,0 +1,13 @@
+package com.onix.r2dbc.mapper;
+
+import com.onix.model.loanapplication.Loan;
+import com.onix.r2dbc.entity.LoanEntity;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface LoanEntityMapper {
+
+    LoanEntity toEntity(Loan loan);
+
+    Loan toModel(LoanEntity entity);
+}
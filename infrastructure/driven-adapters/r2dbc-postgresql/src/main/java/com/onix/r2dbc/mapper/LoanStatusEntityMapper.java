@@ -0,0 +1,15 @@
+package com.onix.r2dbc.mapper;
+
+import com.onix.model.loanstatus.LoanStatus;
+import com.onix.r2dbc.entity.LoanStatusEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface LoanStatusEntityMapper {
+
+    @Mapping(target = "description", ignore = true)
+    LoanStatusEntity toEntity(LoanStatus loanStatus);
+
+    LoanStatus toModel(LoanStatusEntity entity);
+}
@@ -0,0 +1,15 @@
+package com.onix.r2dbc.mapper;
+
+import com.onix.model.loantype.LoanType;
+import com.onix.r2dbc.entity.LoanTypeEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface LoanTypeEntityMapper {
+
+    @Mapping(target = "description", ignore = true)
+    LoanTypeEntity toEntity(LoanType loanType);
+
+    LoanType toModel(LoanTypeEntity entity);
+}
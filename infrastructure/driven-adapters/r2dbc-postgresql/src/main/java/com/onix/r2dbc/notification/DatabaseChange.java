@@ -0,0 +1,27 @@
+package com.onix.r2dbc.notification;
+
+/**
+ * Committed change to a table this service keeps an in-memory view of, announced by the database on the
+ * {@value DatabaseChangeListener#CHANNEL} channel and republished as a Spring application event. Changes made
+ * by this instance come back too, so listeners only need one invalidation path.
+ */
+public sealed interface DatabaseChange {
+
+    record LoanTypesChanged() implements DatabaseChange {
+    }
+
+    record LoanStatusesChanged() implements DatabaseChange {
+    }
+
+    /**
+     * Parses a notification payload written by the triggers, which is the changed table's name. Returns
+     * {@code null} for payloads this version does not know.
+     */
+    static DatabaseChange parse(String payload) {
+        return switch (payload) {
+            case "loan_types" -> new LoanTypesChanged();
+            case "loan_statuses" -> new LoanStatusesChanged();
+            default -> null;
+        };
+    }
+}
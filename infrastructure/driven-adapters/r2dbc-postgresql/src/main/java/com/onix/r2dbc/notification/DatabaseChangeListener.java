@@ -0,0 +1,103 @@
+package com.onix.r2dbc.notification;
+
+import com.onix.r2dbc.config.PostgreSQLConnectionPool;
+import com.onix.r2dbc.config.PostgresqlConnectionProperties;
+import com.onix.r2dbc.notification.DatabaseChange.LoanStatusesChanged;
+import com.onix.r2dbc.notification.DatabaseChange.LoanTypesChanged;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps one connection to the primary, outside the pools, listening on {@value #CHANNEL} and publishes every
+ * notification as a {@link DatabaseChange} application event. Notifications are only delivered once the
+ * writing transaction commits. The connection is reopened after {@code reconnect-delay} when it drops, and
+ * since notifications sent meanwhile are lost, every kind of change is published once it is back.
+ */
+@Slf4j
+@Component
+public class DatabaseChangeListener implements DisposableBean {
+
+    public static final String CHANNEL = "loan_changes";
+
+    private final PostgresqlConnectionFactory connectionFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+    private Disposable subscription;
+
+    public DatabaseChangeListener(PostgresqlConnectionProperties properties,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${adapters.r2dbc.change-feed.enabled:true}") boolean enabled,
+                                  @Value("${adapters.r2dbc.change-feed.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this(new PostgresqlConnectionFactory(PostgreSQLConnectionPool
+                        .connectionConfiguration(properties, properties.host(), properties.port())
+                        .build()),
+                eventPublisher, enabled, reconnectDelay);
+    }
+
+    DatabaseChangeListener(PostgresqlConnectionFactory connectionFactory, ApplicationEventPublisher eventPublisher,
+                           boolean enabled, Duration reconnectDelay) {
+        this.connectionFactory = connectionFactory;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicBoolean connectedBefore = new AtomicBoolean();
+        subscription = Flux.usingWhen(connectionFactory.create(),
+                        connection -> listen(connection, connectedBefore.getAndSet(true)),
+                        PostgresqlConnection::close)
+                .doOnError(e -> log.warn("Database change feed lost its connection: {}", e.getMessage()))
+                .retryWhen(Retry.fixedDelay(Long.MAX_VALUE, reconnectDelay))
+                .repeatWhen(completed -> completed.delayElements(reconnectDelay))
+                .subscribe(this::publish);
+    }
+
+    Flux<DatabaseChange> listen(PostgresqlConnection connection, boolean reconnected) {
+        // Subscribe to notifications before issuing LISTEN so none slips in between.
+        Flux<DatabaseChange> notifications = connection.getNotifications()
+                .doOnNext(notification -> log.debug("Database change: {}", notification.getParameter()))
+                .mapNotNull(notification -> DatabaseChange.parse(notification.getParameter()));
+        Flux<DatabaseChange> missed = connection.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .doOnComplete(() -> log.info("Listening for database changes on {}", CHANNEL))
+                .thenMany(reconnected
+                        ? Flux.just(new LoanTypesChanged(), new LoanStatusesChanged())
+                        : Flux.empty());
+        return Flux.merge(notifications, missed);
+    }
+
+    private void publish(DatabaseChange change) {
+        try {
+            eventPublisher.publishEvent(change);
+        } catch (RuntimeException e) {
+            log.error("Database change listener failed for {}: {}", change, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.onix.r2dbc.repository.loan;
+
+import com.onix.model.loanapplication.dto.LoanStatusChange;
+import com.onix.r2dbc.entity.LoanEntity;
+import java.util.List;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface LoanBulkOperations {
+
+    Mono<Long> insertAll(List<LoanEntity> loans);
+
+    Flux<LoanStatusChange> updateStatus(UUID[] loanIds, Integer statusId);
+}
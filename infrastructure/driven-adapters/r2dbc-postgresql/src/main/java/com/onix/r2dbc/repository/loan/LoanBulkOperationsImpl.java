@@ -0,0 +1,91 @@
+package com.onix.r2dbc.repository.loan;
+
+import com.onix.model.loanapplication.dto.LoanStatusChange;
+import com.onix.r2dbc.entity.LoanEntity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Set-based statements for bulk operations: one statement and one round trip per call instead of one per loan.
+ * Inserted entities must already carry their id and defaults, since entity callbacks do not run here.
+ */
+@RequiredArgsConstructor
+public class LoanBulkOperationsImpl implements LoanBulkOperations {
+
+    private static final String INSERT_LOANS = """
+            INSERT INTO loan_application
+                (loan_id, amount, term_months, email, document_number, loan_type_id, status_id, created_at)
+            VALUES
+            """;
+    private static final String VALUES_ROW = "(:loanId%1$d, :amount%1$d, :termMonths%1$d, :email%1$d,"
+            + " :documentNumber%1$d, :loanTypeId%1$d, :statusId%1$d, :createdAt%1$d)";
+
+    /**
+     * Locks the loans that actually change before updating them, so the previous status returned for each
+     * one is the status it is moved from.
+     */
+    private static final String UPDATE_STATUS = """
+            UPDATE loan_application la
+            SET status_id = :statusId
+            FROM (SELECT loan_id, status_id
+                  FROM loan_application
+                  WHERE loan_id = ANY(:loanIds) AND status_id <> :statusId
+                  FOR UPDATE) previous
+            WHERE la.loan_id = previous.loan_id
+            RETURNING la.loan_id, la.email, previous.status_id AS previous_status_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Long> insertAll(List<LoanEntity> loans) {
+        if (loans.isEmpty()) {
+            return Mono.just(0L);
+        }
+        String sql = INSERT_LOANS + IntStream.range(0, loans.size())
+                .mapToObj(i -> VALUES_ROW.formatted(i))
+                .collect(Collectors.joining(", "));
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (int i = 0; i < loans.size(); i++) {
+            LoanEntity loan = loans.get(i);
+            spec = bind(spec, "loanId" + i, loan.getLoanId(), UUID.class);
+            spec = bind(spec, "amount" + i, loan.getAmount(), BigDecimal.class);
+            spec = bind(spec, "termMonths" + i, loan.getTermMonths(), Integer.class);
+            spec = bind(spec, "email" + i, loan.getEmail(), String.class);
+            spec = bind(spec, "documentNumber" + i, loan.getDocumentNumber(), String.class);
+            spec = bind(spec, "loanTypeId" + i, loan.getLoanTypeId(), Integer.class);
+            spec = bind(spec, "statusId" + i, loan.getStatusId(), Integer.class);
+            spec = bind(spec, "createdAt" + i, loan.getCreatedAt(), LocalDateTime.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Flux<LoanStatusChange> updateStatus(UUID[] loanIds, Integer statusId) {
+        if (loanIds.length == 0) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(UPDATE_STATUS)
+                .bind("loanIds", loanIds)
+                .bind("statusId", statusId)
+                .map((row, metadata) -> new LoanStatusChange(
+                        row.get("loan_id", UUID.class),
+                        row.get("email", String.class),
+                        row.get("previous_status_id", Integer.class)))
+                .all();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+}
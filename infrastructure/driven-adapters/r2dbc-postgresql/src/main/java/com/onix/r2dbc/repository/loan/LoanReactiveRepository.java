@@ -1,8 +1,7 @@
 package com.onix.r2dbc.repository.loan;
 
-import com.onix.model.loanapplication.dto.LoanPageableDTO;
 import com.onix.r2dbc.entity.LoanEntity;
-import org.springframework.data.domain.Pageable;
+import java.util.UUID;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
@@ -10,33 +9,23 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface LoanReactiveRepository extends ReactiveCrudRepository<LoanEntity, String>, ReactiveQueryByExampleExecutor<LoanEntity> {
-
-    @Query(value = """
-            SELECT la.loan_id,
-                    la.amount,
-                    la.term_months,
-                    la.email,
-                    lt.name AS loan_type,
-                    lt.interest_rate,
-                    ls.name AS status,
-                    (la.amount / la.term_months) AS monthly_amount_requested
-            FROM loan_application la
-            INNER JOIN loan_types lt ON la.loan_type_id = lt.loan_type_id
-            INNER JOIN loan_statuses ls ON la.status_id = ls.status_id
-            WHERE ls.name = ANY(string_to_array(:status, ','))
-            LIMIT :#{#pageable.pageSize}
-            OFFSET :#{#pageable.offset}
-            """)
-    Flux<LoanPageableDTO> findPageablePendingLoans(@Param("status") String status, Pageable pageable);
+public interface LoanReactiveRepository extends ReactiveCrudRepository<LoanEntity, String>,
+        ReactiveQueryByExampleExecutor<LoanEntity>, PendingLoanQueries, LoanBulkOperations {
 
     @Query("""
-        SELECT COUNT(*)
-        FROM loan_application la
-        INNER JOIN loan_types lt ON la.loan_type_id = lt.loan_type_id
-        INNER JOIN loan_statuses ls ON la.status_id = ls.status_id
-        WHERE ls.name = ANY(string_to_array(:status, ','))
+        SELECT COALESCE(SUM(c.total), 0)
+        FROM loan_status_counts c
+        WHERE c.status_id = ANY(:statusIds)
        """)
-    Mono<Long> countPendingLoans(@Param("status") String status);
+    Mono<Long> countPendingLoans(@Param("statusIds") Integer[] statusIds);
+
+    @Query("SELECT * FROM loan_application WHERE loan_id = ANY(:loanIds)")
+    Flux<LoanEntity> findAllByLoanIds(@Param("loanIds") UUID[] loanIds);
+
+    @Query("SELECT * FROM loan_application WHERE status_id = :statusId AND email = :email")
+    Flux<LoanEntity> findAllByEmailAndStatusId(@Param("email") String email, @Param("statusId") Integer statusId);
+
+    @Query("SELECT * FROM loan_application WHERE status_id = :statusId AND email = ANY(:emails)")
+    Flux<LoanEntity> findAllByEmailsAndStatusId(@Param("emails") String[] emails, @Param("statusId") Integer statusId);
 
 }
@@ -1,14 +1,20 @@
 package com.onix.r2dbc.repository.loan;
 
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
 import com.onix.model.loanapplication.gateways.LoanRepository;
+import com.onix.r2dbc.config.ReadWriteConnectionFactory;
 import com.onix.r2dbc.entity.LoanEntity;
+import com.onix.r2dbc.helper.LoanDefaultGenerator;
 import com.onix.r2dbc.helper.ReactiveAdapterOperations;
+import com.onix.r2dbc.mapper.LoanEntityMapper;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRegistry;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -20,8 +26,15 @@ public class LoanRepositoryAdapter extends ReactiveAdapterOperations<
         String,
         LoanReactiveRepository
 > implements LoanRepository {
-    public LoanRepositoryAdapter(LoanReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, Loan.class));
+
+    private final LoanEntityMapper mapper;
+    private final LoanStatusRegistry statusRegistry;
+
+    public LoanRepositoryAdapter(LoanReactiveRepository repository, LoanEntityMapper mapper,
+                                 LoanStatusRegistry statusRegistry) {
+        super(repository, mapper::toEntity, mapper::toModel);
+        this.mapper = mapper;
+        this.statusRegistry = statusRegistry;
     }
 
     @Override
@@ -30,19 +43,75 @@ public class LoanRepositoryAdapter extends ReactiveAdapterOperations<
     }
 
     @Override
-    public Flux<LoanPageableDTO> findPendingLoans(int page, int size, String sortBy, String filter) {
-        Pageable pageable = PageRequest.of(page, size);
-        return repository.findPageablePendingLoans(filter, pageable)
-                .map(entity -> mapper.map(entity, LoanPageableDTO.class));
+    public Flux<Loan> saveLoanApplications(List<Loan> loans) {
+        List<LoanEntity> entities = loans.stream()
+                .map(mapper::toEntity)
+                .map(LoanDefaultGenerator::applyDefaults)
+                .toList();
+        return repository.insertAll(entities)
+                .thenMany(Flux.fromIterable(entities))
+                .map(mapper::toModel);
+    }
+
+    /**
+     * Listing queries run outside any transaction on the read-only pool: each one borrows its own connection
+     * and returns it as soon as its rows are read.
+     */
+    @Override
+    public Flux<LoanPageableDTO> findPendingLoans(int page, int size, LoanSortField sortBy, String filter) {
+        return repository.findPageablePendingLoans(filter, sortBy, size, (long) page * size)
+                .contextWrite(ReadWriteConnectionFactory.readOnly());
+    }
+
+    @Override
+    public Flux<LoanPageableDTO> findPendingLoans(LoanCursor after, int size, LoanSortField sortBy, String filter) {
+        Flux<LoanPageableDTO> loans = after == null
+                ? repository.findPageablePendingLoans(filter, sortBy, size, 0)
+                : repository.findPendingLoansAfter(filter, sortBy, after, size);
+        return loans.contextWrite(ReadWriteConnectionFactory.readOnly());
     }
 
     @Override
     public Mono<Long> countPendingLoans(String filter) {
-        return repository.countPendingLoans(filter);
+        return statusRegistry.statuses()
+                .flatMap(statuses -> {
+                    Integer[] statusIds = statuses.idsOf(filter);
+                    return statusIds.length == 0 ? Mono.just(0L) : repository.countPendingLoans(statusIds);
+                })
+                .contextWrite(ReadWriteConnectionFactory.readOnly());
+    }
+
+    @Override
+    public Flux<LoanPageableDTO> streamLoans(String filter) {
+        return repository.streamLoans(filter)
+                .contextWrite(ReadWriteConnectionFactory.readOnly());
     }
 
     @Override
     public Mono<Loan> findById(UUID loanId) {
         return super.findById(loanId.toString());
     }
+
+    @Override
+    public Flux<Loan> findByIds(List<UUID> loanIds) {
+        return repository.findAllByLoanIds(loanIds.toArray(UUID[]::new))
+                .map(mapper::toModel);
+    }
+
+    @Override
+    public Flux<Loan> findByEmailAndStatus(String email, Integer statusId) {
+        return repository.findAllByEmailAndStatusId(email, statusId)
+                .map(mapper::toModel);
+    }
+
+    @Override
+    public Flux<Loan> findByEmailsAndStatus(Set<String> emails, Integer statusId) {
+        return repository.findAllByEmailsAndStatusId(emails.toArray(String[]::new), statusId)
+                .map(mapper::toModel);
+    }
+
+    @Override
+    public Flux<LoanStatusChange> updateStatus(List<UUID> loanIds, Integer statusId) {
+        return repository.updateStatus(loanIds.toArray(UUID[]::new), statusId);
+    }
 }
@@ -0,0 +1,15 @@
+package com.onix.r2dbc.repository.loan;
+
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import reactor.core.publisher.Flux;
+
+public interface PendingLoanQueries {
+
+    Flux<LoanPageableDTO> findPageablePendingLoans(String status, LoanSortField sortBy, int limit, long offset);
+
+    Flux<LoanPageableDTO> findPendingLoansAfter(String status, LoanSortField sortBy, LoanCursor after, int limit);
+
+    Flux<LoanPageableDTO> streamLoans(String status);
+}
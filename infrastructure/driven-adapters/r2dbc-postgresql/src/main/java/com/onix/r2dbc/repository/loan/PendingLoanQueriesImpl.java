@@ -0,0 +1,149 @@
+package com.onix.r2dbc.repository.loan;
+
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRegistry;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRegistry.Statuses;
+import io.r2dbc.spi.Row;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * Pending-loans page queries. The ORDER BY column cannot be a bind parameter, so it is resolved from
+ * {@link LoanSortField} only; every column listed here is backed by a (status_id, column, loan_id) index.
+ * Status names are resolved to ids through {@link LoanStatusRegistry}, so loan_statuses is never joined.
+ */
+@RequiredArgsConstructor
+public class PendingLoanQueriesImpl implements PendingLoanQueries {
+
+    private static final String SELECT_PENDING_LOANS = """
+            SELECT la.loan_id,
+                    la.amount,
+                    la.term_months,
+                    la.email,
+                    la.created_at,
+                    la.status_id,
+                    lt.name AS loan_type,
+                    lt.interest_rate,
+                    (la.amount / la.term_months) AS monthly_amount_requested
+            FROM loan_application la
+            INNER JOIN loan_types lt ON la.loan_type_id = lt.loan_type_id
+            WHERE la.status_id = ANY(:statusIds)
+            """;
+
+    /**
+     * Rows requested from the server per round trip when streaming; the driver asks for the next batch only
+     * after the subscriber has drained the previous one.
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+    private final LoanStatusRegistry statusRegistry;
+
+    @Override
+    public Flux<LoanPageableDTO> findPageablePendingLoans(String status, LoanSortField sortBy, int limit, long offset) {
+        String sql = SELECT_PENDING_LOANS
+                + orderBy(sortBy)
+                + " LIMIT :limit OFFSET :offset";
+        return statusRegistry.statuses()
+                .flatMapMany(statuses -> {
+                    Integer[] statusIds = statuses.idsOf(status);
+                    if (statusIds.length == 0) {
+                        return Flux.empty();
+                    }
+                    return databaseClient.sql(sql)
+                            .bind("statusIds", statusIds)
+                            .bind("limit", limit)
+                            .bind("offset", offset)
+                            .map((row, metadata) -> toPageableDto(row, statuses))
+                            .all();
+                });
+    }
+
+    @Override
+    public Flux<LoanPageableDTO> findPendingLoansAfter(String status, LoanSortField sortBy, LoanCursor after, int limit) {
+        String sql = SELECT_PENDING_LOANS
+                + " AND (" + column(sortBy) + ", la.loan_id) > (:sortValue, :loanId)"
+                + orderBy(sortBy)
+                + " LIMIT :limit";
+        Object sortValue = sortValue(sortBy, after.sortValue());
+        return statusRegistry.statuses()
+                .flatMapMany(statuses -> {
+                    Integer[] statusIds = statuses.idsOf(status);
+                    if (statusIds.length == 0) {
+                        return Flux.empty();
+                    }
+                    return databaseClient.sql(sql)
+                            .bind("statusIds", statusIds)
+                            .bind("sortValue", sortValue)
+                            .bind("loanId", after.loanId())
+                            .bind("limit", limit)
+                            .map((row, metadata) -> toPageableDto(row, statuses))
+                            .all();
+                });
+    }
+
+    @Override
+    public Flux<LoanPageableDTO> streamLoans(String status) {
+        return statusRegistry.statuses()
+                .flatMapMany(statuses -> {
+                    Integer[] statusIds = statuses.idsOf(status);
+                    if (statusIds.length == 0) {
+                        return Flux.empty();
+                    }
+                    return databaseClient.sql(SELECT_PENDING_LOANS)
+                            .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+                            .bind("statusIds", statusIds)
+                            .map((row, metadata) -> toPageableDto(row, statuses))
+                            .all();
+                });
+    }
+
+    private static String orderBy(LoanSortField sortBy) {
+        return " ORDER BY " + column(sortBy) + ", la.loan_id";
+    }
+
+    private static String column(LoanSortField sortBy) {
+        return switch (sortBy) {
+            case EMAIL -> "la.email";
+            case AMOUNT -> "la.amount";
+            case TERM_MONTHS -> "la.term_months";
+            case CREATED_AT -> "la.created_at";
+        };
+    }
+
+    private static Object sortValue(LoanSortField sortBy, String value) {
+        try {
+            return switch (sortBy) {
+                case EMAIL -> value;
+                case AMOUNT -> new BigDecimal(value);
+                case TERM_MONTHS -> Integer.valueOf(value);
+                case CREATED_AT -> LocalDateTime.parse(value);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value for sort field " + sortBy.getFieldName());
+        }
+    }
+
+    private LoanPageableDTO toPageableDto(Row row, Statuses statuses) {
+        return new LoanPageableDTO(
+                row.get("loan_id", UUID.class),
+                row.get("amount", BigDecimal.class),
+                row.get("term_months", Integer.class),
+                row.get("email", String.class),
+                null,
+                row.get("loan_type", String.class),
+                row.get("interest_rate", BigDecimal.class),
+                statuses.nameOf(row.get("status_id", Integer.class)),
+                null,
+                row.get("monthly_amount_requested", BigDecimal.class),
+                row.get("created_at", LocalDateTime.class)
+        );
+    }
+}
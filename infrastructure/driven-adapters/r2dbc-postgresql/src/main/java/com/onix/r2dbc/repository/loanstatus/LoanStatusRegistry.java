@@ -0,0 +1,97 @@
+package com.onix.r2dbc.repository.loanstatus;
+
+import com.onix.model.loanstatus.LoanStatus;
+import com.onix.r2dbc.entity.LoanStatusEntity;
+import com.onix.r2dbc.notification.DatabaseChange.LoanStatusesChanged;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Name/id lookup for {@code loan_statuses}, loaded at startup and again whenever the database reports a
+ * change to the table, so that status updates and the pending-loans listing can translate between the two
+ * without querying it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanStatusRegistry {
+
+    private final LoanStatusReactiveRepository repository;
+    private final AtomicReference<Statuses> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload().subscribe();
+    }
+
+    @EventListener
+    public void onLoanStatusesChanged(LoanStatusesChanged change) {
+        reload().subscribe();
+    }
+
+    /**
+     * Returns the loaded statuses, loading them first if a request arrives before startup preloading finished.
+     */
+    public Mono<Statuses> statuses() {
+        return Mono.justOrEmpty(current.get())
+                .switchIfEmpty(Mono.defer(this::load));
+    }
+
+    public Mono<Void> reload() {
+        return load()
+                .doOnError(e -> log.error("Loan status registry load failed: {}", e.getMessage()))
+                .then();
+    }
+
+    private Mono<Statuses> load() {
+        return repository.findAll()
+                .collectList()
+                .map(Statuses::of)
+                .doOnNext(statuses -> {
+                    current.set(statuses);
+                    log.debug("Loaded {} loan statuses", statuses.namesById().size());
+                });
+    }
+
+    public record Statuses(Map<String, Integer> idsByName, Map<Integer, String> namesById) {
+
+        static Statuses of(List<LoanStatusEntity> entities) {
+            return new Statuses(
+                    entities.stream().collect(Collectors.toUnmodifiableMap(LoanStatusEntity::getName, LoanStatusEntity::getStatusId)),
+                    entities.stream().collect(Collectors.toUnmodifiableMap(LoanStatusEntity::getStatusId, LoanStatusEntity::getName))
+            );
+        }
+
+        public Optional<LoanStatus> byName(String name) {
+            return Optional.ofNullable(idsByName.get(name))
+                    .map(id -> new LoanStatus(id, name));
+        }
+
+        public String nameOf(Integer statusId) {
+            return namesById.get(statusId);
+        }
+
+        /**
+         * Resolves a comma-separated list of status names to their ids; unknown names are ignored.
+         */
+        public Integer[] idsOf(String names) {
+            return Arrays.stream(names.split(","))
+                    .map(idsByName::get)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toArray(Integer[]::new);
+        }
+    }
+}
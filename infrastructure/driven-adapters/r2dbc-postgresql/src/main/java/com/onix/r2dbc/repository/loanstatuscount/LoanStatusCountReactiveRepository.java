@@ -0,0 +1,46 @@
+package com.onix.r2dbc.repository.loanstatuscount;
+
+import com.onix.r2dbc.entity.LoanStatusCountEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface LoanStatusCountReactiveRepository extends ReactiveCrudRepository<LoanStatusCountEntity, Integer> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO loan_status_counts (status_id, total)
+            VALUES (:statusId, :delta)
+            ON CONFLICT (status_id) DO UPDATE SET total = loan_status_counts.total + EXCLUDED.total
+            """)
+    Mono<Integer> increment(@Param("statusId") Integer statusId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("""
+            INSERT INTO loan_status_counts (status_id, total)
+            VALUES (:firstStatusId, :firstDelta), (:secondStatusId, :secondDelta)
+            ON CONFLICT (status_id) DO UPDATE SET total = loan_status_counts.total + EXCLUDED.total
+            """)
+    Mono<Integer> incrementPair(@Param("firstStatusId") Integer firstStatusId,
+                                @Param("firstDelta") long firstDelta,
+                                @Param("secondStatusId") Integer secondStatusId,
+                                @Param("secondDelta") long secondDelta);
+
+    /**
+     * Compares every counter with a count of its status. Being a single statement, it reads both tables from
+     * one snapshot, so the difference is exact for that moment, and it takes no lock that would delay a write.
+     */
+    @Query("""
+            SELECT ls.status_id, COUNT(la.loan_id) - COALESCE(lsc.total, 0) AS drift
+            FROM loan_statuses ls
+            LEFT JOIN loan_application la ON la.status_id = ls.status_id
+            LEFT JOIN loan_status_counts lsc ON lsc.status_id = ls.status_id
+            GROUP BY ls.status_id, lsc.total
+            HAVING COUNT(la.loan_id) <> COALESCE(lsc.total, 0)
+            ORDER BY ls.status_id
+            """)
+    Flux<StatusCountDrift> findDrift();
+}
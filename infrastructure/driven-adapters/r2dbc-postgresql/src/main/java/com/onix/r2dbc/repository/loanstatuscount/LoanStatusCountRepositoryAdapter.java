@@ -0,0 +1,53 @@
+package com.onix.r2dbc.repository.loanstatuscount;
+
+import com.onix.model.loanstatus.gateways.LoanStatusCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps one counter row per status, updated in the same transaction as the loan write it accounts for.
+ * Every write to a status locks that row until commit, so writers of the same status are serialized on it;
+ * callers keep those transactions to SQL only so the lock is held for milliseconds, not across remote calls.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class LoanStatusCountRepositoryAdapter implements LoanStatusCountRepository {
+
+    private final LoanStatusCountReactiveRepository repository;
+
+    @Override
+    public Mono<Void> increment(Integer statusId, long delta) {
+        return repository.increment(statusId, delta).then();
+    }
+
+    @Override
+    public Mono<Void> transfer(Integer fromStatusId, Integer toStatusId, long delta) {
+        if (fromStatusId.equals(toStatusId)) {
+            return Mono.empty();
+        }
+        // Rows are always locked in status_id order so concurrent transfers cannot deadlock.
+        if (fromStatusId < toStatusId) {
+            return repository.incrementPair(fromStatusId, -delta, toStatusId, delta).then();
+        }
+        return repository.incrementPair(toStatusId, delta, fromStatusId, -delta).then();
+    }
+
+    /**
+     * Corrects counters that drifted from the loans they count. The drift is measured against one snapshot and
+     * then added as a delta, row by row, in statements of their own: increments and transfers that commit in
+     * between are kept, and loan writes never wait for the O(rows) count, only for a single-row update.
+     */
+    @Scheduled(fixedDelayString = "${adapters.r2dbc.counts.reconcile-interval:PT10M}",
+            initialDelayString = "${adapters.r2dbc.counts.reconcile-interval:PT10M}")
+    public Mono<Void> reconcile() {
+        return repository.findDrift()
+                .concatMap(drift -> repository.increment(drift.statusId(), drift.drift()).thenReturn(drift))
+                .doOnNext(drift -> log.info("Loan count for status {} was off by {}", drift.statusId(), drift.drift()))
+                .doOnError(e -> log.error("Loan count reconciliation failed: {}", e.getMessage()))
+                .then();
+    }
+}
@@ -0,0 +1,9 @@
+package com.onix.r2dbc.repository.loanstatuscount;
+
+/**
+ * How far a status counter is from the actual number of loans in that status, both read from one snapshot.
+ *
+ * @param drift loans counted minus the stored total; adding it to the counter corrects it
+ */
+public record StatusCountDrift(Integer statusId, Long drift) {
+}
@@ -0,0 +1,104 @@
+package com.onix.r2dbc.repository.loantype;
+
+import com.onix.model.loantype.LoanType;
+import com.onix.model.loantype.gateways.LoanTypeRepository;
+import com.onix.r2dbc.notification.DatabaseChange.LoanTypesChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves loan types from an immutable in-memory snapshot of {@code loan_types}.
+ * The snapshot is loaded at startup, replaced when the database reports a change to the table,
+ * on a fixed schedule or on demand, and ids missing from it fall through to the database.
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachedLoanTypeRepository implements LoanTypeRepository {
+
+    private final LoanTypeRepositoryAdapter delegate;
+    private final Clock clock;
+    private final AtomicReference<Snapshot> snapshot;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachedLoanTypeRepository(LoanTypeRepositoryAdapter delegate, MeterRegistry registry) {
+        this(delegate, registry, Clock.systemUTC());
+    }
+
+    CachedLoanTypeRepository(LoanTypeRepositoryAdapter delegate, MeterRegistry registry, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.snapshot = new AtomicReference<>(new Snapshot(Map.of(), Instant.EPOCH));
+        this.hits = Counter.builder("loan.types.cache.requests").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("loan.types.cache.requests").tag("result", "miss").register(registry);
+        Gauge.builder("loan.types.cache.age", this, cache -> cache.age().toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("loan.types.cache.size", this, CachedLoanTypeRepository::size)
+                .register(registry);
+    }
+
+    @Override
+    public Mono<LoanType> getLoanTypeById(Integer id) {
+        LoanType loanType = snapshot.get().loanTypes().get(id);
+        if (loanType != null) {
+            hits.increment();
+            // LoanType is mutable, so callers get a copy rather than the shared instance.
+            return Mono.just(loanType.toBuilder().build());
+        }
+        misses.increment();
+        return delegate.getLoanTypeById(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh().subscribe();
+    }
+
+    @EventListener
+    public void onLoanTypesChanged(LoanTypesChanged change) {
+        refresh().subscribe();
+    }
+
+    @Scheduled(fixedDelayString = "${adapters.r2dbc.loan-types.refresh-interval:PT5M}",
+            initialDelayString = "${adapters.r2dbc.loan-types.refresh-interval:PT5M}")
+    public Mono<Void> refresh() {
+        return delegate.findAll()
+                .collect(Collectors.toUnmodifiableMap(LoanType::getLoanTypeId, Function.identity()))
+                .doOnNext(loanTypes -> {
+                    snapshot.set(new Snapshot(loanTypes, clock.instant()));
+                    log.debug("Loaded {} loan types into cache", loanTypes.size());
+                })
+                .doOnError(e -> log.error("Loan type cache refresh failed, keeping previous snapshot: {}", e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    public int size() {
+        return snapshot.get().loanTypes().size();
+    }
+
+    public Duration age() {
+        return Duration.between(snapshot.get().loadedAt(), clock.instant());
+    }
+
+    private record Snapshot(Map<Integer, LoanType> loanTypes, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.onix.r2dbc.repository.loantype;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "loantypes")
+public class LoanTypeCacheEndpoint {
+
+    private final CachedLoanTypeRepository cache;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of("size", cache.size(), "ageSeconds", cache.age().toSeconds());
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Object>> refresh() {
+        return cache.refresh().then(Mono.fromSupplier(this::status));
+    }
+}
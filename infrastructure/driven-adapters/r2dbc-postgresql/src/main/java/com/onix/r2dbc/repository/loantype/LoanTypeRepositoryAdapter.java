@@ -4,7 +4,7 @@ import com.onix.model.loantype.LoanType;
 import com.onix.model.loantype.gateways.LoanTypeRepository;
 import com.onix.r2dbc.entity.LoanTypeEntity;
 import com.onix.r2dbc.helper.ReactiveAdapterOperations;
-import org.reactivecommons.utils.ObjectMapper;
+import com.onix.r2dbc.mapper.LoanTypeEntityMapper;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
@@ -15,8 +15,8 @@ public class LoanTypeRepositoryAdapter extends ReactiveAdapterOperations<
         Integer,
         LoanTypeReactiveRepository
 > implements LoanTypeRepository {
-    public LoanTypeRepositoryAdapter(LoanTypeReactiveRepository repository, ObjectMapper mapper) {
-        super(repository, mapper, d -> mapper.map(d, LoanType.class));
+    public LoanTypeRepositoryAdapter(LoanTypeReactiveRepository repository, LoanTypeEntityMapper mapper) {
+        super(repository, mapper::toEntity, mapper::toModel);
     }
 
     @Override
@@ -0,0 +1,69 @@
+package com.onix.r2dbc.repository.outbox;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.model.loanstatusevent.gateways.LoanStatusFeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-process feed of the status events appended to the outbox. Events are multicast to the current
+ * subscribers only after the surrounding transaction commits, so a rolled-back change is never shown.
+ */
+@Component
+public class CommittedLoanStatusFeed implements LoanStatusFeed {
+
+    private final Sinks.Many<LoanStatusEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final int bufferSize;
+    private final Counter dropped;
+
+    public CommittedLoanStatusFeed(@Value("${adapter.loan-status-feed.buffer-size:256}") int bufferSize,
+                                   MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.dropped = Counter.builder("loan.status.feed.dropped").register(meterRegistry);
+    }
+
+    @Override
+    public Flux<LoanStatusEvent> events() {
+        return sink.asFlux()
+                .onBackpressureBuffer(bufferSize, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    /**
+     * Publishes {@code events} when the current transaction commits, or right away when there is none.
+     */
+    public Mono<Void> publishAfterCommit(List<LoanStatusEvent> events) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(synchronizations -> {
+                    synchronizations.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(() -> publish(events));
+                        }
+                    });
+                    return true;
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty())
+                .switchIfEmpty(Mono.fromRunnable(() -> publish(events)))
+                .then();
+    }
+
+    private synchronized void publish(List<LoanStatusEvent> events) {
+        LocalDateTime committedAt = LocalDateTime.now();
+        for (LoanStatusEvent event : events) {
+            // Only fails when nobody is subscribed, in which case there is no one to tell.
+            sink.tryEmitNext(event.getCreatedAt() != null ? event : event.toBuilder().createdAt(committedAt).build());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.onix.r2dbc.repository.outbox;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.model.loanstatusevent.gateways.LoanStatusOutbox;
+import com.onix.r2dbc.entity.LoanStatusOutboxEntity;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class LoanStatusOutboxAdapter implements LoanStatusOutbox {
+
+    private final LoanStatusOutboxReactiveRepository repository;
+    private final CommittedLoanStatusFeed feed;
+
+    @Override
+    public Mono<Void> append(LoanStatusEvent event) {
+        return repository.append(event.getEventId(), event.getLoanId(), event.getEmail(),
+                        event.getUsername(), event.getStatus())
+                .then(feed.publishAfterCommit(List.of(event)));
+    }
+
+    @Override
+    public Mono<Void> appendAll(List<LoanStatusEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.appendAll(
+                        events.stream().map(LoanStatusEvent::getEventId).toArray(UUID[]::new),
+                        events.stream().map(LoanStatusEvent::getLoanId).toArray(UUID[]::new),
+                        events.stream().map(LoanStatusEvent::getEmail).toArray(String[]::new),
+                        events.stream().map(LoanStatusEvent::getUsername).toArray(String[]::new),
+                        events.stream().map(LoanStatusEvent::getStatus).toArray(String[]::new))
+                .then(feed.publishAfterCommit(events));
+    }
+
+    @Override
+    public Flux<LoanStatusEvent> claimPending(int limit, Duration lease) {
+        return repository.claimPending(limit, lease.toSeconds())
+                .map(LoanStatusOutboxAdapter::toEvent);
+    }
+
+    @Override
+    public Mono<Void> delete(List<UUID> eventIds) {
+        return repository.deleteByEventIds(eventIds.toArray(UUID[]::new)).then();
+    }
+
+    @Override
+    public Mono<Duration> lag() {
+        return repository.oldestEventAgeSeconds()
+                .map(Duration::ofSeconds)
+                .defaultIfEmpty(Duration.ZERO);
+    }
+
+    private static LoanStatusEvent toEvent(LoanStatusOutboxEntity entity) {
+        return LoanStatusEvent.builder()
+                .eventId(entity.getEventId())
+                .loanId(entity.getLoanId())
+                .email(entity.getEmail())
+                .username(entity.getUsername())
+                .status(entity.getStatus())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.onix.r2dbc.repository.outbox;
+
+import com.onix.r2dbc.entity.LoanStatusOutboxEntity;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface LoanStatusOutboxReactiveRepository extends ReactiveCrudRepository<LoanStatusOutboxEntity, UUID> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO loan_status_outbox (event_id, loan_id, email, username, status, created_at, available_at)
+            VALUES (:eventId, :loanId, :email, :username, :status, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            """)
+    Mono<Integer> append(@Param("eventId") UUID eventId,
+                         @Param("loanId") UUID loanId,
+                         @Param("email") String email,
+                         @Param("username") String username,
+                         @Param("status") String status);
+
+    @Modifying
+    @Query("""
+            INSERT INTO loan_status_outbox (event_id, loan_id, email, username, status, created_at, available_at)
+            SELECT e.event_id, e.loan_id, e.email, e.username, e.status, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM unnest(CAST(:eventIds AS UUID[]), CAST(:loanIds AS UUID[]), CAST(:emails AS TEXT[]),
+                        CAST(:usernames AS TEXT[]), CAST(:statuses AS TEXT[]))
+                AS e(event_id, loan_id, email, username, status)
+            """)
+    Mono<Integer> appendAll(@Param("eventIds") UUID[] eventIds,
+                            @Param("loanIds") UUID[] loanIds,
+                            @Param("emails") String[] emails,
+                            @Param("usernames") String[] usernames,
+                            @Param("statuses") String[] statuses);
+
+    @Query("""
+            UPDATE loan_status_outbox o
+            SET available_at = LOCALTIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE o.event_id IN (
+                SELECT event_id
+                FROM loan_status_outbox
+                WHERE available_at <= LOCALTIMESTAMP
+                ORDER BY created_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING o.*
+            """)
+    Flux<LoanStatusOutboxEntity> claimPending(@Param("limit") int limit, @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query("DELETE FROM loan_status_outbox WHERE event_id = ANY(:eventIds)")
+    Mono<Integer> deleteByEventIds(@Param("eventIds") UUID[] eventIds);
+
+    @Query("""
+            SELECT COALESCE(EXTRACT(EPOCH FROM LOCALTIMESTAMP - MIN(created_at)), 0)::BIGINT
+            FROM loan_status_outbox
+            """)
+    Mono<Long> oldestEventAgeSeconds();
+}
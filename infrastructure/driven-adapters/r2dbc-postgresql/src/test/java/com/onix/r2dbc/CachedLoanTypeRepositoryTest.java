@@ -0,0 +1,100 @@
+package com.onix.r2dbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.onix.model.loantype.LoanType;
+import com.onix.r2dbc.notification.DatabaseChange.LoanTypesChanged;
+import com.onix.r2dbc.repository.loantype.CachedLoanTypeRepository;
+import com.onix.r2dbc.repository.loantype.LoanTypeRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CachedLoanTypeRepositoryTest {
+
+    @Mock
+    private LoanTypeRepositoryAdapter delegate;
+
+    private SimpleMeterRegistry registry;
+    private CachedLoanTypeRepository cache;
+    private LoanType loanType;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new CachedLoanTypeRepository(delegate, registry);
+        loanType = LoanType.builder()
+                .loanTypeId(1)
+                .name("Personal")
+                .minAmount(BigDecimal.valueOf(1000))
+                .maxAmount(BigDecimal.valueOf(10000))
+                .build();
+    }
+
+    @Test
+    void shouldServeLoanTypeFromSnapshotAfterRefresh() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(Flux.just(loanType));
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cache.getLoanTypeById(1))
+                .expectNextMatches(found -> found.getLoanTypeId() == 1 && "Personal".equals(found.getName()))
+                .verifyComplete();
+        verify(delegate, never()).getLoanTypeById(1);
+        assertEquals(1.0, registry.get("loan.types.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1.0, registry.get("loan.types.cache.size").gauge().value());
+    }
+
+    @Test
+    void shouldFallBackToDatabaseOnMiss() {
+        // Arrange
+        when(delegate.getLoanTypeById(1)).thenReturn(Mono.just(loanType));
+
+        // Act & Assert
+        StepVerifier.create(cache.getLoanTypeById(1))
+                .expectNext(loanType)
+                .verifyComplete();
+        verify(delegate, times(1)).getLoanTypeById(1);
+        assertEquals(1.0, registry.get("loan.types.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenRefreshFails() {
+        // Arrange
+        when(delegate.findAll())
+                .thenReturn(Flux.just(loanType))
+                .thenReturn(Flux.error(new RuntimeException("DB down")));
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        // Act
+        StepVerifier.create(cache.refresh()).verifyComplete();
+
+        // Assert
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldRefreshWhenDatabaseReportsLoanTypeChange() {
+        // Arrange
+        when(delegate.findAll()).thenReturn(Flux.just(loanType));
+
+        // Act
+        cache.onLoanTypesChanged(new LoanTypesChanged());
+
+        // Assert
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,122 @@
+package com.onix.r2dbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.r2dbc.repository.outbox.CommittedLoanStatusFeed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CommittedLoanStatusFeedTest {
+
+    private SimpleMeterRegistry registry;
+    private CommittedLoanStatusFeed feed;
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        feed = new CommittedLoanStatusFeed(2, registry);
+        transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+    }
+
+    @Test
+    void shouldPublishRightAwayWithoutTransaction() {
+        // Arrange
+        LoanStatusEvent event = LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .status("Approved")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(feed.events())
+                .then(() -> feed.publishAfterCommit(List.of(event)).block())
+                .expectNextMatches(published -> published.getLoanId().equals(event.getLoanId())
+                        && published.getCreatedAt() != null)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldPublishOnlyAfterCommit() {
+        // Arrange
+        LoanStatusEvent committed = event();
+        LoanStatusEvent rolledBack = event();
+
+        // Act & Assert
+        StepVerifier.create(feed.events())
+                .then(() -> transactionalOperator.transactional(feed.publishAfterCommit(List.of(rolledBack))
+                                .then(Mono.error(new IllegalStateException("rollback"))))
+                        .onErrorResume(IllegalStateException.class, e -> Mono.empty())
+                        .block())
+                .then(() -> transactionalOperator.transactional(feed.publishAfterCommit(List.of(committed)))
+                        .block())
+                .expectNext(committed)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldDropOldestEventsForSlowSubscriber() {
+        // Arrange
+        LoanStatusEvent first = event();
+        LoanStatusEvent second = event();
+        LoanStatusEvent third = event();
+
+        // Act & Assert
+        StepVerifier.create(feed.events(), 0)
+                .then(() -> feed.publishAfterCommit(List.of(first, second, third)).block())
+                .thenRequest(3)
+                .expectNext(second, third)
+                .thenCancel()
+                .verify();
+        assertEquals(1, registry.get("loan.status.feed.dropped").counter().count());
+    }
+
+    private static LoanStatusEvent event() {
+        return LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .status("Approved")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
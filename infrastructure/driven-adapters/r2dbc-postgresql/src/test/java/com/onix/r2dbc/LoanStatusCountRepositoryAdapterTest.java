@@ -0,0 +1,89 @@
+package com.onix.r2dbc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.onix.r2dbc.repository.loanstatuscount.LoanStatusCountReactiveRepository;
+import com.onix.r2dbc.repository.loanstatuscount.LoanStatusCountRepositoryAdapter;
+import com.onix.r2dbc.repository.loanstatuscount.StatusCountDrift;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class LoanStatusCountRepositoryAdapterTest {
+
+    @Mock
+    private LoanStatusCountReactiveRepository repository;
+
+    @InjectMocks
+    private LoanStatusCountRepositoryAdapter adapter;
+
+    @Test
+    void shouldIncrementStatusCounter() {
+        // Arrange
+        when(repository.increment(1, 1L)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(adapter.increment(1, 1))
+                .verifyComplete();
+        verify(repository, times(1)).increment(1, 1L);
+    }
+
+    @Test
+    void shouldTransferCountInStatusIdOrder() {
+        // Arrange
+        when(repository.incrementPair(1, 1L, 3, -1L)).thenReturn(Mono.just(2));
+
+        // Act & Assert
+        StepVerifier.create(adapter.transfer(3, 1, 1))
+                .verifyComplete();
+        verify(repository, times(1)).incrementPair(1, 1L, 3, -1L);
+    }
+
+    @Test
+    void shouldSkipTransferWhenStatusIsUnchanged() {
+        // Act & Assert
+        StepVerifier.create(adapter.transfer(2, 2, 1))
+                .verifyComplete();
+        verify(repository, never()).incrementPair(any(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void shouldAddMeasuredDriftToEachOffCounter() {
+        // Arrange
+        when(repository.findDrift()).thenReturn(Flux.just(new StatusCountDrift(1, 3L), new StatusCountDrift(5, -2L)));
+        when(repository.increment(1, 3L)).thenReturn(Mono.just(1));
+        when(repository.increment(5, -2L)).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(adapter.reconcile())
+                .verifyComplete();
+        InOrder order = inOrder(repository);
+        order.verify(repository).findDrift();
+        order.verify(repository).increment(1, 3L);
+        order.verify(repository).increment(5, -2L);
+    }
+
+    @Test
+    void shouldLeaveCountersAloneWhenNoneDrifted() {
+        // Arrange
+        when(repository.findDrift()).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.reconcile())
+                .verifyComplete();
+        verify(repository, never()).increment(any(), anyLong());
+    }
+}
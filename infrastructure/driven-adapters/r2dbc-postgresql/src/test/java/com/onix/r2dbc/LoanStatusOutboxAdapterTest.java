@@ -0,0 +1,126 @@
+package com.onix.r2dbc;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.r2dbc.entity.LoanStatusOutboxEntity;
+import com.onix.r2dbc.repository.outbox.CommittedLoanStatusFeed;
+import com.onix.r2dbc.repository.outbox.LoanStatusOutboxAdapter;
+import com.onix.r2dbc.repository.outbox.LoanStatusOutboxReactiveRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class LoanStatusOutboxAdapterTest {
+
+    @Mock
+    private LoanStatusOutboxReactiveRepository repository;
+    @Mock
+    private CommittedLoanStatusFeed feed;
+
+    @InjectMocks
+    private LoanStatusOutboxAdapter adapter;
+
+    @Test
+    void shouldAppendEvent() {
+        // Arrange
+        LoanStatusEvent event = LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("test@example.com")
+                .username("Test User")
+                .status("Approved")
+                .build();
+        when(repository.append(event.getEventId(), event.getLoanId(), "test@example.com", "Test User", "Approved"))
+                .thenReturn(Mono.just(1));
+        when(feed.publishAfterCommit(List.of(event))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.append(event))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAppendEventsWithOneStatement() {
+        // Arrange
+        LoanStatusEvent first = LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("first@example.com")
+                .username("First User")
+                .status("Approved")
+                .build();
+        LoanStatusEvent second = first.toBuilder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("second@example.com")
+                .username(null)
+                .build();
+        when(repository.appendAll(
+                new UUID[]{first.getEventId(), second.getEventId()},
+                new UUID[]{first.getLoanId(), second.getLoanId()},
+                new String[]{"first@example.com", "second@example.com"},
+                new String[]{"First User", null},
+                new String[]{"Approved", "Approved"}))
+                .thenReturn(Mono.just(2));
+        when(feed.publishAfterCommit(List.of(first, second))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.appendAll(List.of(first, second)))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldClaimPendingEventsWithLeaseInSeconds() {
+        // Arrange
+        LoanStatusOutboxEntity entity = LoanStatusOutboxEntity.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("test@example.com")
+                .status("Approved")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(repository.claimPending(20, 30L)).thenReturn(Flux.just(entity));
+
+        // Act & Assert
+        StepVerifier.create(adapter.claimPending(20, Duration.ofSeconds(30)))
+                .expectNextMatches(event -> event.getEventId().equals(entity.getEventId())
+                        && "Approved".equals(event.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteRelayedEvents() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+        when(repository.deleteByEventIds(new UUID[]{eventId})).thenReturn(Mono.just(1));
+
+        // Act & Assert
+        StepVerifier.create(adapter.delete(List.of(eventId)))
+                .verifyComplete();
+        verify(repository, times(1)).deleteByEventIds(new UUID[]{eventId});
+    }
+
+    @Test
+    void shouldReportLagOfOldestEvent() {
+        // Arrange
+        when(repository.oldestEventAgeSeconds()).thenReturn(Mono.just(42L));
+
+        // Act & Assert
+        StepVerifier.create(adapter.lag())
+                .expectNext(Duration.ofSeconds(42))
+                .verifyComplete();
+    }
+}
@@ -1,20 +1,33 @@
 package com.onix.r2dbc;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
 import com.onix.r2dbc.entity.LoanEntity;
+import com.onix.r2dbc.mapper.LoanEntityMapper;
 import com.onix.r2dbc.repository.loan.LoanReactiveRepository;
 import com.onix.r2dbc.repository.loan.LoanRepositoryAdapter;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRegistry;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +35,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -35,7 +45,9 @@ class LoanRepositoryAdapterTest {
     @Mock
     private LoanReactiveRepository repository;
     @Mock
-    private ObjectMapper mapper;
+    private LoanEntityMapper mapper;
+    @Mock
+    private LoanStatusRegistry statusRegistry;
 
     @InjectMocks
     private LoanRepositoryAdapter loanRepositoryAdapter;
@@ -56,10 +68,10 @@ class LoanRepositoryAdapterTest {
         loanEntity.setAmount(validLoan.getAmount());
         loanEntity.setEmail(validLoan.getEmail());
 
-        loanPageableDTO = new LoanPageableDTO(UUID.randomUUID(), BigDecimal.valueOf(5000), 12, "test1@test.com", "John Doe", "Personal", BigDecimal.TEN, "Pending Review", null, null);
+        loanPageableDTO = new LoanPageableDTO(UUID.randomUUID(), BigDecimal.valueOf(5000), 12, "test1@test.com", "John Doe", "Personal", BigDecimal.TEN, "Pending Review", null, null, LocalDateTime.now());
 
-        lenient().when(mapper.map(any(Loan.class), eq(LoanEntity.class))).thenReturn(loanEntity);
-        lenient().when(mapper.map(any(LoanEntity.class), eq(Loan.class))).thenReturn(validLoan);
+        lenient().when(mapper.toEntity(any(Loan.class))).thenReturn(loanEntity);
+        lenient().when(mapper.toModel(any(LoanEntity.class))).thenReturn(validLoan);
     }
 
     // --- Tests para saveLoanApplication ---
@@ -82,22 +94,47 @@ class LoanRepositoryAdapterTest {
     @Test
     void shouldReturnEmptyFluxWhenNoPendingLoansFound() {
         // Arrange
-        int page = 0;
+        int page = 2;
         int size = 10;
-        String sortBy = "email";
         String filter = "PENDING";
 
-        when(repository.findPageablePendingLoans(anyString(), any(Pageable.class)))
+        when(repository.findPageablePendingLoans(anyString(), any(LoanSortField.class), anyInt(), anyLong()))
                 .thenReturn(Flux.empty());
 
         // Act
-        Flux<LoanPageableDTO> result = loanRepositoryAdapter.findPendingLoans(page, size, sortBy, filter);
+        Flux<LoanPageableDTO> result = loanRepositoryAdapter.findPendingLoans(page, size, LoanSortField.AMOUNT, filter);
 
         // Assert
         StepVerifier.create(result)
                 .verifyComplete();
-        verify(repository, times(1)).findPageablePendingLoans(filter, PageRequest.of(page, size));
-        verify(mapper, never()).map(any(), any());
+        verify(repository, times(1)).findPageablePendingLoans(filter, LoanSortField.AMOUNT, size, 20L);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void shouldFetchFirstKeysetPageWhenNoCursorIsGiven() {
+        // Arrange
+        when(repository.findPageablePendingLoans("Pending Review", LoanSortField.EMAIL, 3, 0L))
+                .thenReturn(Flux.just(loanPageableDTO));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.findPendingLoans(null, 3, LoanSortField.EMAIL, "Pending Review"))
+                .expectNext(loanPageableDTO)
+                .verifyComplete();
+        verify(repository, never()).findPendingLoansAfter(anyString(), any(LoanSortField.class), any(LoanCursor.class), anyInt());
+    }
+
+    @Test
+    void shouldSeekAfterCursor() {
+        // Arrange
+        LoanCursor cursor = new LoanCursor(LoanSortField.EMAIL, "a@example.com", UUID.randomUUID());
+        when(repository.findPendingLoansAfter("Pending Review", LoanSortField.EMAIL, cursor, 3))
+                .thenReturn(Flux.just(loanPageableDTO));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.findPendingLoans(cursor, 3, LoanSortField.EMAIL, "Pending Review"))
+                .expectNext(loanPageableDTO)
+                .verifyComplete();
     }
 
     // --- Tests para countPendingLoans ---
@@ -106,8 +143,11 @@ class LoanRepositoryAdapterTest {
     void shouldCountPendingLoansSuccessfully() {
         // Arrange
         long expectedCount = 5L;
-        String filter = "PENDING";
-        when(repository.countPendingLoans(filter)).thenReturn(Mono.just(expectedCount));
+        String filter = "Pending Review,Reviewed";
+        when(statusRegistry.statuses()).thenReturn(Mono.just(new LoanStatusRegistry.Statuses(
+                Map.of("Pending Review", 1, "Reviewed", 2),
+                Map.of(1, "Pending Review", 2, "Reviewed"))));
+        when(repository.countPendingLoans(new Integer[]{1, 2})).thenReturn(Mono.just(expectedCount));
 
         // Act
         Mono<Long> result = loanRepositoryAdapter.countPendingLoans(filter);
@@ -116,6 +156,82 @@ class LoanRepositoryAdapterTest {
         StepVerifier.create(result)
                 .expectNext(expectedCount)
                 .verifyComplete();
-        verify(repository, times(1)).countPendingLoans(filter);
+        verify(repository, times(1)).countPendingLoans(new Integer[]{1, 2});
+    }
+
+    @Test
+    void shouldCountZeroWithoutQueryingWhenNoStatusMatches() {
+        // Arrange
+        when(statusRegistry.statuses()).thenReturn(Mono.just(new LoanStatusRegistry.Statuses(
+                Map.of("Pending Review", 1),
+                Map.of(1, "Pending Review"))));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.countPendingLoans("Unknown"))
+                .expectNext(0L)
+                .verifyComplete();
+        verify(repository, never()).countPendingLoans(any());
+    }
+
+    @Test
+    void shouldStreamLoansFromRepository() {
+        // Arrange
+        when(repository.streamLoans("Pending Review")).thenReturn(Flux.just(loanPageableDTO));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.streamLoans("Pending Review"))
+                .expectNext(loanPageableDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldInsertLoansInOneStatementWithDefaults() {
+        // Arrange
+        Loan newLoan = validLoan.toBuilder().loanId(null).build();
+        LoanEntity newEntity = LoanEntity.builder().email(newLoan.getEmail()).amount(newLoan.getAmount()).build();
+        when(mapper.toEntity(newLoan)).thenReturn(newEntity);
+        when(repository.insertAll(List.of(newEntity))).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.saveLoanApplications(List.of(newLoan)))
+                .expectNext(validLoan)
+                .verifyComplete();
+        assertNotNull(newEntity.getLoanId());
+        assertEquals(1, newEntity.getStatusId());
+        assertNotNull(newEntity.getCreatedAt());
+    }
+
+    @Test
+    void shouldUpdateStatusesWithIdArray() {
+        // Arrange
+        LoanStatusChange change = new LoanStatusChange(validLoan.getLoanId(), validLoan.getEmail(), 1);
+        when(repository.updateStatus(new UUID[]{validLoan.getLoanId()}, 3)).thenReturn(Flux.just(change));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.updateStatus(List.of(validLoan.getLoanId()), 3))
+                .expectNext(change)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindLoansOfApplicantInStatus() {
+        // Arrange
+        when(repository.findAllByEmailAndStatusId("test@example.com", 3)).thenReturn(Flux.just(loanEntity));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.findByEmailAndStatus("test@example.com", 3))
+                .expectNext(validLoan)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindLoansOfSeveralApplicantsInStatusWithEmailArray() {
+        // Arrange
+        when(repository.findAllByEmailsAndStatusId(new String[]{"test@example.com"}, 3)).thenReturn(Flux.just(loanEntity));
+
+        // Act & Assert
+        StepVerifier.create(loanRepositoryAdapter.findByEmailsAndStatus(Set.of("test@example.com"), 3))
+                .expectNext(validLoan)
+                .verifyComplete();
     }
 }
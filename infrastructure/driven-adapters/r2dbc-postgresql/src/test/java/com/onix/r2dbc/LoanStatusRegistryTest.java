@@ -0,0 +1,67 @@
+package com.onix.r2dbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.onix.r2dbc.entity.LoanStatusEntity;
+import com.onix.r2dbc.mapper.LoanStatusEntityMapper;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusReactiveRepository;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRegistry;
+import com.onix.r2dbc.repository.loanstatus.LoanStatusRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class LoanStatusRegistryTest {
+
+    @Mock
+    private LoanStatusReactiveRepository repository;
+    @Mock
+    private LoanStatusEntityMapper mapper;
+
+    private LoanStatusRegistry registry;
+    private LoanStatusRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new LoanStatusRegistry(repository);
+        adapter = new LoanStatusRepositoryAdapter(repository, mapper, registry);
+        when(repository.findAll()).thenReturn(Flux.just(
+                new LoanStatusEntity(1, "Pending Review", "Pending review"),
+                new LoanStatusEntity(3, "Approved", "Approved")));
+    }
+
+    @Test
+    void shouldResolveStatusByNameFromRegistryLoadedOnce() {
+        // Act & Assert
+        StepVerifier.create(adapter.getStatusByName("Approved"))
+                .expectNextMatches(status -> status.getStatusId() == 3 && "Approved".equals(status.getName()))
+                .verifyComplete();
+        StepVerifier.create(adapter.getStatusByName("Pending Review"))
+                .expectNextMatches(status -> status.getStatusId() == 1)
+                .verifyComplete();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownStatusName() {
+        // Act & Assert
+        StepVerifier.create(adapter.getStatusByName("Unknown"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldResolveFilterNamesToIdsIgnoringUnknownNames() {
+        // Act & Assert
+        StepVerifier.create(registry.statuses())
+                .assertNext(statuses -> assertArrayEquals(new Integer[]{1, 3}, statuses.idsOf("Pending Review,Unknown,Approved")))
+                .verifyComplete();
+    }
+}
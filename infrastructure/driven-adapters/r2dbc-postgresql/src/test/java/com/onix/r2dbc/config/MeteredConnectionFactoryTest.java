@@ -0,0 +1,85 @@
+package com.onix.r2dbc.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredConnectionFactoryTest {
+
+    @Mock
+    private ConnectionPool pool;
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry registry;
+    private MeteredConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        connectionFactory = new MeteredConnectionFactory(pool, "test-pool", registry);
+    }
+
+    @Test
+    void shouldRecordAcquireAndUsageTimes() {
+        // Arrange
+        when(pool.create()).thenReturn(Mono.just(connection));
+        when(connection.close()).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(connectionFactory.create()
+                        .flatMap(metered -> Mono.from(metered.close()).then(Mono.from(metered.close()))))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(1, registry.get("r2dbc.pool.acquire").tag("outcome", "success").timer().count());
+        assertEquals(1, registry.get("r2dbc.pool.usage").tag("name", "test-pool").timer().count());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void shouldAddHoldTimeToTheRequestContext() {
+        // Arrange
+        ConnectionHoldTime holdTime = new ConnectionHoldTime();
+        when(pool.create()).thenReturn(Mono.just(connection));
+        when(connection.close()).thenReturn(Mono.empty());
+
+        // Act
+        StepVerifier.create(connectionFactory.create()
+                        .flatMap(metered -> Mono.from(metered.close()).then(Mono.from(metered.close())))
+                        .contextWrite(holdTime.context()))
+                .verifyComplete();
+
+        // Assert
+        assertEquals(1, holdTime.connections());
+        assertTrue(holdTime.total().toNanos() > 0);
+    }
+
+    @Test
+    void shouldRecordFailedAcquire() {
+        // Arrange
+        when(pool.create()).thenReturn(Mono.error(new R2dbcTimeoutException("Acquire timed out")));
+
+        // Act & Assert
+        StepVerifier.create(connectionFactory.create())
+                .expectError(R2dbcTimeoutException.class)
+                .verify();
+        assertEquals(1, registry.get("r2dbc.pool.acquire").tag("outcome", "error").timer().count());
+        assertEquals(0, registry.get("r2dbc.pool.usage").timer().count());
+    }
+}
@@ -1,37 +1,63 @@
 package com.onix.r2dbc.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PostgreSQLConnectionPoolTest {
 
-    @InjectMocks
     private PostgreSQLConnectionPool connectionPool;
 
-    @Mock
     private PostgresqlConnectionProperties properties;
 
-
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
-
-        when(properties.host()).thenReturn("localhost");
-        when(properties.port()).thenReturn(5432);
-        when(properties.database()).thenReturn("dbName");
-        when(properties.schema()).thenReturn("schema");
-        when(properties.username()).thenReturn("username");
-        when(properties.password()).thenReturn("password");
+        connectionPool = new PostgreSQLConnectionPool();
+        properties = new PostgresqlConnectionProperties(
+                "localhost", 5432, "dbName", "schema", "username", "password", null, null);
     }
 
     @Test
     void getConnectionConfigSuccess() {
-        assertNotNull(connectionPool.getConnectionConfig(properties));
+        ReadWriteConnectionFactory connectionFactory = connectionPool.getConnectionConfig(properties, new SimpleMeterRegistry());
+
+        assertNotNull(connectionFactory);
+        assertEquals(1, connectionFactory.pools().size());
+        connectionFactory.dispose();
+    }
+
+    @Test
+    void shouldCreateReplicaPoolWhenReplicaHostIsSet() {
+        PostgresqlConnectionProperties withReplica = new PostgresqlConnectionProperties(
+                "localhost", 5432, "dbName", "schema", "username", "password", null,
+                new PostgresqlConnectionProperties.Replica("replica", null, null, null, Duration.ofSeconds(5)));
+
+        ReadWriteConnectionFactory connectionFactory = connectionPool.getConnectionConfig(withReplica, new SimpleMeterRegistry());
+
+        assertEquals(2, connectionFactory.pools().size());
+        assertEquals(Duration.ofSeconds(30), withReplica.replica().retryInterval());
+        connectionFactory.dispose();
+    }
+
+    @Test
+    void shouldFallBackToDefaultsForMissingPoolSettings() {
+        PostgresqlConnectionProperties.Pool pool = new PostgresqlConnectionProperties.Pool(
+                4, 8, null, null, Duration.ofSeconds(2), null, null, false, null);
+
+        assertEquals(Duration.ofSeconds(2), pool.maxAcquireTime());
+        assertEquals(Duration.ofMinutes(30), pool.maxIdleTime());
+        assertEquals(256, pool.preparedStatementCacheQueries());
+        assertEquals(12, properties.pool().initialSize());
+    }
+
+    @Test
+    void shouldRejectInitialSizeAboveMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PostgresqlConnectionProperties.Pool(
+                20, 10, null, null, null, null, null, null, null));
     }
 }
@@ -0,0 +1,106 @@
+package com.onix.r2dbc.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteConnectionFactoryTest {
+
+    @Mock
+    private MeteredConnectionFactory primary;
+    @Mock
+    private MeteredConnectionFactory replica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry registry;
+    private ReadWriteConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        connectionFactory = new ReadWriteConnectionFactory(primary, replica, Duration.ofSeconds(30), registry, now::get);
+    }
+
+    @Test
+    void shouldUsePrimaryWithoutReadOnlyContext() {
+        // Arrange
+        when(primary.create()).thenReturn(Mono.just(primaryConnection));
+
+        // Act & Assert
+        StepVerifier.create(connectionFactory.create())
+                .expectNext(primaryConnection)
+                .verifyComplete();
+        verify(replica, never()).create();
+    }
+
+    @Test
+    void shouldUseReplicaForReadOnlyContext() {
+        // Arrange
+        when(replica.create()).thenReturn(Mono.just(replicaConnection));
+
+        // Act & Assert
+        StepVerifier.create(connectionFactory.create().contextWrite(ReadWriteConnectionFactory.readOnly()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+        verify(primary, never()).create();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryUntilRetryIntervalPasses() {
+        // Arrange
+        when(replica.create())
+                .thenReturn(Mono.error(new R2dbcNonTransientResourceException("Connection refused")))
+                .thenReturn(Mono.just(replicaConnection));
+        when(primary.create()).thenReturn(Mono.just(primaryConnection));
+
+        // Act & Assert
+        StepVerifier.create(connectionFactory.create().contextWrite(ReadWriteConnectionFactory.readOnly()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        StepVerifier.create(connectionFactory.create().contextWrite(ReadWriteConnectionFactory.readOnly()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        now.addAndGet(Duration.ofSeconds(25).toNanos());
+        StepVerifier.create(connectionFactory.create().contextWrite(ReadWriteConnectionFactory.readOnly()))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+
+        verify(replica, times(2)).create();
+        assertEquals(1, registry.get("r2dbc.replica.fallback").counter().count());
+    }
+
+    @Test
+    void shouldUsePrimaryForReadsWhenNoReplicaIsConfigured() {
+        // Arrange
+        ReadWriteConnectionFactory primaryOnly = new ReadWriteConnectionFactory(primary, null, null, registry);
+        when(primary.create()).thenReturn(Mono.just(primaryConnection));
+
+        // Act & Assert
+        StepVerifier.create(primaryOnly.create().contextWrite(ReadWriteConnectionFactory.readOnly()))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+}
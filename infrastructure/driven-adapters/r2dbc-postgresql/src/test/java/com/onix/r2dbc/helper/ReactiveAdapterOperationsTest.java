@@ -3,7 +3,6 @@ package com.onix.r2dbc.helper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.data.domain.Example;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
@@ -19,15 +18,13 @@ import static org.mockito.Mockito.when;
 class ReactiveAdapterOperationsTest {
 
     private DummyRepository repository;
-    private ObjectMapper mapper;
     private ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository> operations;
 
     @BeforeEach
     void setUp() {
         repository = Mockito.mock(DummyRepository.class);
-        mapper = Mockito.mock(ObjectMapper.class);
         operations = new ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository>(
-                repository, mapper, DummyEntity::toEntity) {};
+                repository, DummyData::toData, DummyEntity::toEntity) {};
     }
 
     @Test
@@ -35,7 +32,6 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
         when(repository.save(data)).thenReturn(Mono.just(data));
 
         StepVerifier.create(operations.save(entity))
@@ -50,8 +46,6 @@ class ReactiveAdapterOperationsTest {
         DummyData data1 = new DummyData("1", "test1");
         DummyData data2 = new DummyData("2", "test2");
 
-        when(mapper.map(entity1, DummyData.class)).thenReturn(data1);
-        when(mapper.map(entity2, DummyData.class)).thenReturn(data2);
         when(repository.saveAll(any(Flux.class))).thenReturn(Flux.just(data1, data2));
 
         StepVerifier.create(operations.saveAllEntities(Flux.just(entity1, entity2)))
@@ -76,7 +70,6 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
         when(repository.findAll(any(Example.class))).thenReturn(Flux.just(data));
 
         StepVerifier.create(operations.findByExample(entity))
@@ -142,6 +135,10 @@ class ReactiveAdapterOperationsTest {
             this.name = name;
         }
 
+        public static DummyData toData(DummyEntity entity) {
+            return new DummyData(entity.getId(), entity.getName());
+        }
+
         public String getId() {
             return id;
         }
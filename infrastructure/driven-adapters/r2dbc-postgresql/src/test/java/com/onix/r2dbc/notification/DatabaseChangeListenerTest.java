@@ -0,0 +1,82 @@
+package com.onix.r2dbc.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import com.onix.r2dbc.notification.DatabaseChange.LoanStatusesChanged;
+import com.onix.r2dbc.notification.DatabaseChange.LoanTypesChanged;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.postgresql.api.PostgresqlStatement;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseChangeListenerTest {
+
+    @Mock
+    private PostgresqlConnection connection;
+    @Mock
+    private PostgresqlStatement statement;
+    @Mock
+    private PostgresqlResult result;
+    @Mock
+    private Notification notification;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DatabaseChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new DatabaseChangeListener((PostgresqlConnectionFactory) null, eventPublisher, true, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldParseTriggerPayloads() {
+        assertEquals(new LoanTypesChanged(), DatabaseChange.parse("loan_types"));
+        assertEquals(new LoanStatusesChanged(), DatabaseChange.parse("loan_statuses"));
+        assertNull(DatabaseChange.parse("loan_application"));
+        assertNull(DatabaseChange.parse("loan_status_outbox"));
+    }
+
+    @Test
+    void shouldTranslateNotificationsAfterListening() {
+        // Arrange
+        when(connection.getNotifications()).thenReturn(Flux.just(notification));
+        when(notification.getParameter()).thenReturn("loan_statuses");
+        when(connection.createStatement("LISTEN " + DatabaseChangeListener.CHANNEL)).thenReturn(statement);
+        when(statement.execute()).thenReturn(Flux.just(result));
+        when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(listener.listen(connection, false))
+                .expectNext(new LoanStatusesChanged())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReportEveryChangeAfterReconnecting() {
+        // Arrange
+        when(connection.getNotifications()).thenReturn(Flux.empty());
+        when(connection.createStatement("LISTEN " + DatabaseChangeListener.CHANNEL)).thenReturn(statement);
+        when(statement.execute()).thenReturn(Flux.just(result));
+        when(result.getRowsUpdated()).thenReturn(Mono.just(0L));
+
+        // Act & Assert
+        StepVerifier.create(listener.listen(connection, true))
+                .expectNext(new LoanTypesChanged(), new LoanStatusesChanged())
+                .verifyComplete();
+    }
+}
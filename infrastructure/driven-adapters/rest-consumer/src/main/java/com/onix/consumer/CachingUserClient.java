@@ -0,0 +1,121 @@
+package com.onix.consumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.onix.consumer.config.UserPropertiesConfig;
+import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.loanapplication.dto.UserDTO;
+import com.onix.model.loanapplication.gateways.UserClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded, expiring cache of user profiles keyed by email.
+ * <p>
+ * Profiles are shared by both lookups. A document number counts as validated when the cached profile carries
+ * the same document number, or once the validate endpoint has accepted that email/document pair, so
+ * validation outcomes are cached separately. Unregistered
+ * users are remembered for a shorter time so that a new registration is picked up quickly.
+ */
+public class CachingUserClient implements UserClient {
+
+    private final UserClient delegate;
+    private final Cache<String, UserDTO> profiles;
+    private final Cache<String, Boolean> validations;
+
+    public CachingUserClient(UserClient delegate, UserPropertiesConfig userPropertiesConfig, MeterRegistry registry) {
+        this(delegate, userPropertiesConfig, Ticker.systemTicker());
+        CaffeineCacheMetrics.monitor(registry, profiles, "user.profiles");
+        CaffeineCacheMetrics.monitor(registry, validations, "user.validations");
+    }
+
+    CachingUserClient(UserClient delegate, UserPropertiesConfig userPropertiesConfig, Ticker ticker) {
+        this.delegate = delegate;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(userPropertiesConfig.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(userPropertiesConfig.getCacheTtl()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.validations = Caffeine.newBuilder()
+                .maximumSize(userPropertiesConfig.getCacheMaxSize())
+                .expireAfter(new ValidationExpiry(
+                        Duration.ofMillis(userPropertiesConfig.getCacheTtl()),
+                        Duration.ofMillis(userPropertiesConfig.getNegativeCacheTtl())))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Mono<UserDTO> validateUserRegistered(String email, String documentNumber, String token) {
+        String key = validationKey(email, documentNumber);
+        Boolean registered = validations.getIfPresent(key);
+        if (Boolean.FALSE.equals(registered)) {
+            return Mono.error(new UnregisteredUserException(email, documentNumber));
+        }
+        UserDTO user = profiles.getIfPresent(email);
+        if (user != null && (documentNumber == null || Boolean.TRUE.equals(registered)
+                || documentNumber.equals(user.documentNumber()))) {
+            return Mono.just(user);
+        }
+        return delegate.validateUserRegistered(email, documentNumber, token)
+                .doOnNext(user -> {
+                    profiles.put(email, user);
+                    validations.put(key, Boolean.TRUE);
+                })
+                .doOnError(UnregisteredUserException.class, e -> validations.put(key, Boolean.FALSE));
+    }
+
+    @Override
+    public Mono<Map<String, UserDTO>> getUsersByEmails(Set<String> emails, String token) {
+        Map<String, UserDTO> found = new HashMap<>(profiles.getAllPresent(emails));
+        Set<String> misses = emails.stream()
+                .filter(email -> !found.containsKey(email))
+                .filter(email -> !Boolean.FALSE.equals(validations.getIfPresent(validationKey(email, null))))
+                .collect(Collectors.toSet());
+        if (misses.isEmpty()) {
+            return Mono.just(found);
+        }
+        return delegate.getUsersByEmails(misses, token)
+                .map(fetched -> {
+                    profiles.putAll(fetched);
+                    misses.stream()
+                            .filter(email -> !fetched.containsKey(email))
+                            .forEach(email -> validations.put(validationKey(email, null), Boolean.FALSE));
+                    found.putAll(fetched);
+                    return found;
+                });
+    }
+
+    private static String validationKey(String email, String documentNumber) {
+        return email + "|" + documentNumber;
+    }
+
+    private record ValidationExpiry(Duration registeredTtl, Duration unregisteredTtl)
+            implements Expiry<String, Boolean> {
+
+        @Override
+        public long expireAfterCreate(String key, Boolean registered, long currentTime) {
+            return (registered ? registeredTtl : unregisteredTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Boolean registered, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, registered, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Boolean registered, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.onix.consumer;
+
+import com.onix.consumer.config.UserPropertiesConfig;
+import com.onix.model.exception.AuthenticationServiceUnavailableException;
+import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.loanapplication.dto.UserDTO;
+import com.onix.model.loanapplication.gateways.UserClient;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Collects concurrent user lookups made with the same token and resolves them with a single call to the
+ * batch endpoint, dispatched when the batch window elapses or the batch is full.
+ * <p>
+ * A lookup that also validates a document number is accepted only if it matches the document number in the
+ * batch profile. When the batch response carries no document number for the user, that lookup falls back to
+ * the validate endpoint. A caller that cancels before dispatch leaves its batch, and a batch left empty is
+ * dropped without calling the user service.
+ */
+@Slf4j
+public class CoalescingUserClient implements UserClient {
+
+    private final UserClient delegate;
+    private final long batchWindowMillis;
+    private final int batchMaxSize;
+    private final Scheduler scheduler;
+    private final Map<String, PendingBatch> pending = new HashMap<>();
+
+    public CoalescingUserClient(UserClient delegate, UserPropertiesConfig userPropertiesConfig) {
+        this(delegate, userPropertiesConfig, Schedulers.parallel());
+    }
+
+    CoalescingUserClient(UserClient delegate, UserPropertiesConfig userPropertiesConfig, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.batchWindowMillis = userPropertiesConfig.getBatchWindow();
+        this.batchMaxSize = userPropertiesConfig.getBatchMaxSize();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<UserDTO> validateUserRegistered(String email, String documentNumber, String token) {
+        return Mono.create(sink -> enqueue(new Waiter(email, documentNumber, sink), token));
+    }
+
+    @Override
+    public Mono<Map<String, UserDTO>> getUsersByEmails(Set<String> emails, String token) {
+        return delegate.getUsersByEmails(emails, token);
+    }
+
+    private void enqueue(Waiter waiter, String token) {
+        PendingBatch full = null;
+        synchronized (pending) {
+            PendingBatch batch = pending.computeIfAbsent(token, this::openBatch);
+            batch.add(waiter);
+            waiter.sink.onCancel(() -> leave(batch, waiter));
+            if (batch.size() >= batchMaxSize) {
+                pending.remove(token);
+                batch.timer.dispose();
+                full = batch;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+    }
+
+    private void leave(PendingBatch batch, Waiter waiter) {
+        synchronized (pending) {
+            // Once dispatched, the batch is no longer pending and its waiters are left as they are.
+            if (pending.get(batch.token) != batch) {
+                return;
+            }
+            batch.remove(waiter);
+            if (batch.size() == 0) {
+                pending.remove(batch.token);
+                batch.timer.dispose();
+            }
+        }
+    }
+
+    private PendingBatch openBatch(String token) {
+        PendingBatch batch = new PendingBatch(token);
+        batch.timer = scheduler.schedule(() -> {
+            boolean due;
+            synchronized (pending) {
+                due = pending.remove(token, batch);
+            }
+            if (due) {
+                dispatch(batch);
+            }
+        }, batchWindowMillis, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void dispatch(PendingBatch batch) {
+        log.debug("Dispatching coalesced lookup of {} users", batch.size());
+        delegate.getUsersByEmails(batch.waiters.keySet(), batch.token)
+                .defaultIfEmpty(Map.of())
+                .subscribe(users -> complete(batch, users), ex -> fail(batch, ex));
+    }
+
+    private void complete(PendingBatch batch, Map<String, UserDTO> users) {
+        batch.waiters.forEach((email, waiters) -> {
+            UserDTO user = users.get(email);
+            waiters.forEach(waiter -> {
+                if (user == null) {
+                    waiter.sink.error(new UnregisteredUserException(email, waiter.documentNumber));
+                } else if (waiter.documentNumber == null || waiter.documentNumber.equals(user.documentNumber())) {
+                    waiter.sink.success(user);
+                } else if (user.documentNumber() == null) {
+                    delegate.validateUserRegistered(email, waiter.documentNumber, batch.token)
+                            .subscribe(waiter.sink::success, waiter.sink::error);
+                } else {
+                    waiter.sink.error(new UnregisteredUserException(email, waiter.documentNumber));
+                }
+            });
+        });
+    }
+
+    private static void fail(PendingBatch batch, Throwable ex) {
+        log.error("User service unavailable for batch lookup, cause: {}", ex.getMessage());
+        batch.waiters.forEach((email, waiters) -> waiters.forEach(waiter ->
+                waiter.sink.error(new AuthenticationServiceUnavailableException(email, waiter.documentNumber))));
+    }
+
+    private record Waiter(String email, String documentNumber, MonoSink<UserDTO> sink) {
+    }
+
+    private static final class PendingBatch {
+        private final String token;
+        private final Map<String, List<Waiter>> waiters = new HashMap<>();
+        private Disposable timer;
+
+        private PendingBatch(String token) {
+            this.token = token;
+        }
+
+        private void add(Waiter waiter) {
+            waiters.computeIfAbsent(waiter.email, key -> new ArrayList<>()).add(waiter);
+        }
+
+        private void remove(Waiter waiter) {
+            List<Waiter> forEmail = waiters.get(waiter.email);
+            if (forEmail != null && forEmail.remove(waiter) && forEmail.isEmpty()) {
+                waiters.remove(waiter.email);
+            }
+        }
+
+        private int size() {
+            return waiters.size();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.onix.consumer.config;
+
+import com.onix.consumer.CachingUserClient;
+import com.onix.consumer.CoalescingUserClient;
+import com.onix.consumer.RestConsumer;
+import com.onix.model.loanapplication.gateways.UserClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class UserClientConfig {
+
+    @Bean
+    @Primary
+    public UserClient userClient(RestConsumer restConsumer, UserPropertiesConfig userPropertiesConfig,
+                                 MeterRegistry meterRegistry) {
+        return new CachingUserClient(
+                new CoalescingUserClient(restConsumer, userPropertiesConfig),
+                userPropertiesConfig,
+                meterRegistry);
+    }
+}
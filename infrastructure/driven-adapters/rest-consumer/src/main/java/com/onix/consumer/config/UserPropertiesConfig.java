@@ -12,4 +12,9 @@ public class UserPropertiesConfig {
     private String validateUserPath;
     private int timeout;
     private String batchUsersPath;
+    private int batchWindow = 5;
+    private int batchMaxSize = 50;
+    private int cacheTtl = 300000;
+    private int negativeCacheTtl = 30000;
+    private int cacheMaxSize = 10000;
 }
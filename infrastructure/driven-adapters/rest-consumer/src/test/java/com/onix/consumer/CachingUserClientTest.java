@@ -0,0 +1,152 @@
+package com.onix.consumer;
+
+import com.onix.consumer.config.UserPropertiesConfig;
+import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.loanapplication.dto.UserDTO;
+import com.onix.model.loanapplication.gateways.UserClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserClientTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private UserClient delegate;
+
+    private AtomicLong nanos;
+    private CachingUserClient cachingUserClient;
+
+    @BeforeEach
+    void setUp() {
+        UserPropertiesConfig userPropertiesConfig = new UserPropertiesConfig();
+        userPropertiesConfig.setCacheTtl(60000);
+        userPropertiesConfig.setNegativeCacheTtl(5000);
+        userPropertiesConfig.setCacheMaxSize(100);
+        nanos = new AtomicLong();
+        cachingUserClient = new CachingUserClient(delegate, userPropertiesConfig, nanos::get);
+    }
+
+    @Test
+    void shouldServeRepeatedValidationFromCache() {
+        // Arrange
+        UserDTO user = user("test@example.com");
+        when(delegate.validateUserRegistered("test@example.com", "12345", TOKEN)).thenReturn(Mono.just(user));
+
+        // Act & Assert
+        StepVerifier.create(cachingUserClient.validateUserRegistered("test@example.com", "12345", TOKEN))
+                .expectNext(user)
+                .verifyComplete();
+        StepVerifier.create(cachingUserClient.validateUserRegistered("test@example.com", "12345", TOKEN))
+                .expectNext(user)
+                .verifyComplete();
+        verify(delegate, times(1)).validateUserRegistered("test@example.com", "12345", TOKEN);
+    }
+
+    @Test
+    void shouldNotTreatCachedProfileAsValidatedForAnotherDocument() {
+        // Arrange
+        UserDTO user = user("test@example.com");
+        when(delegate.getUsersByEmails(Set.of("test@example.com"), TOKEN)).thenReturn(Mono.just(Map.of(user.email(), user)));
+        when(delegate.validateUserRegistered("test@example.com", "99999", TOKEN))
+                .thenReturn(Mono.error(new UnregisteredUserException("test@example.com", "99999")));
+        StepVerifier.create(cachingUserClient.getUsersByEmails(Set.of("test@example.com"), TOKEN))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cachingUserClient.validateUserRegistered("test@example.com", "99999", TOKEN))
+                .expectError(UnregisteredUserException.class)
+                .verify();
+        StepVerifier.create(cachingUserClient.validateUserRegistered("test@example.com", null, TOKEN))
+                .expectNext(user)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldValidateDocumentAgainstCachedProfile() {
+        // Arrange
+        UserDTO user = user("test@example.com");
+        when(delegate.getUsersByEmails(Set.of("test@example.com"), TOKEN)).thenReturn(Mono.just(Map.of(user.email(), user)));
+        StepVerifier.create(cachingUserClient.getUsersByEmails(Set.of("test@example.com"), TOKEN))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cachingUserClient.validateUserRegistered("test@example.com", "12345", TOKEN))
+                .expectNext(user)
+                .verifyComplete();
+        verify(delegate, never()).validateUserRegistered(anyString(), any(), anyString());
+    }
+
+    @Test
+    void shouldCacheUnregisteredUserUntilNegativeTtlExpires() {
+        // Arrange
+        when(delegate.validateUserRegistered("ghost@example.com", null, TOKEN))
+                .thenReturn(Mono.error(new UnregisteredUserException("ghost@example.com", null)));
+
+        // Act & Assert
+        StepVerifier.create(cachingUserClient.validateUserRegistered("ghost@example.com", null, TOKEN))
+                .expectError(UnregisteredUserException.class)
+                .verify();
+        StepVerifier.create(cachingUserClient.validateUserRegistered("ghost@example.com", null, TOKEN))
+                .expectError(UnregisteredUserException.class)
+                .verify();
+        verify(delegate, times(1)).validateUserRegistered("ghost@example.com", null, TOKEN);
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        StepVerifier.create(cachingUserClient.validateUserRegistered("ghost@example.com", null, TOKEN))
+                .expectError(UnregisteredUserException.class)
+                .verify();
+        verify(delegate, times(2)).validateUserRegistered("ghost@example.com", null, TOKEN);
+    }
+
+    @Test
+    void shouldRequestOnlyMissesInBatchLookup() {
+        // Arrange
+        UserDTO cached = user("cached@example.com");
+        UserDTO fresh = user("fresh@example.com");
+        when(delegate.getUsersByEmails(Set.of("cached@example.com"), TOKEN)).thenReturn(Mono.just(Map.of(cached.email(), cached)));
+        when(delegate.getUsersByEmails(Set.of("fresh@example.com", "ghost@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(fresh.email(), fresh)));
+        StepVerifier.create(cachingUserClient.getUsersByEmails(Set.of("cached@example.com"), TOKEN))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act & Assert
+        StepVerifier.create(cachingUserClient.getUsersByEmails(
+                        Set.of("cached@example.com", "fresh@example.com", "ghost@example.com"), TOKEN))
+                .expectNext(Map.of(cached.email(), cached, fresh.email(), fresh))
+                .verifyComplete();
+        StepVerifier.create(cachingUserClient.getUsersByEmails(
+                        Set.of("cached@example.com", "fresh@example.com", "ghost@example.com"), TOKEN))
+                .expectNext(Map.of(cached.email(), cached, fresh.email(), fresh))
+                .verifyComplete();
+        verify(delegate, times(2)).getUsersByEmails(any(), anyString());
+        verify(delegate, never()).validateUserRegistered(anyString(), any(), anyString());
+    }
+
+    private static UserDTO user(String email) {
+        return new UserDTO(UUID.randomUUID(), "User", "User", LocalDate.of(2000, 1, 1),
+                "Address", "1234567890", email, 1000L, "12345");
+    }
+}
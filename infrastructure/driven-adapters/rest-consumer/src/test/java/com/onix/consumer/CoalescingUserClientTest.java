@@ -0,0 +1,201 @@
+package com.onix.consumer;
+
+import com.onix.consumer.config.UserPropertiesConfig;
+import com.onix.model.exception.AuthenticationServiceUnavailableException;
+import com.onix.model.exception.UnregisteredUserException;
+import com.onix.model.loanapplication.dto.UserDTO;
+import com.onix.model.loanapplication.gateways.UserClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserClientTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private UserClient delegate;
+
+    private VirtualTimeScheduler scheduler;
+    private CoalescingUserClient coalescingUserClient;
+
+    @BeforeEach
+    void setUp() {
+        UserPropertiesConfig userPropertiesConfig = new UserPropertiesConfig();
+        userPropertiesConfig.setBatchWindow(5);
+        userPropertiesConfig.setBatchMaxSize(3);
+        scheduler = VirtualTimeScheduler.create();
+        coalescingUserClient = new CoalescingUserClient(delegate, userPropertiesConfig, scheduler);
+    }
+
+    @Test
+    void shouldResolveConcurrentLookupsWithOneBatchCall() {
+        // Arrange
+        UserDTO first = user("first@example.com");
+        UserDTO second = user("second@example.com");
+        when(delegate.getUsersByEmails(Set.of("first@example.com", "second@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(first.email(), first, second.email(), second)));
+
+        // Act
+        Mono<UserDTO> firstLookup = coalescingUserClient.validateUserRegistered("first@example.com", null, TOKEN).cache();
+        Mono<UserDTO> secondLookup = coalescingUserClient.validateUserRegistered("second@example.com", null, TOKEN).cache();
+        firstLookup.subscribe();
+        secondLookup.subscribe();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(firstLookup).expectNext(first).verifyComplete();
+        StepVerifier.create(secondLookup).expectNext(second).verifyComplete();
+        verify(delegate, times(1)).getUsersByEmails(any(), anyString());
+    }
+
+    @Test
+    void shouldDispatchImmediatelyWhenBatchIsFull() {
+        // Arrange
+        when(delegate.getUsersByEmails(any(), anyString())).thenReturn(Mono.just(Map.of()));
+
+        // Act
+        coalescingUserClient.validateUserRegistered("a@example.com", null, TOKEN).subscribe(u -> {}, e -> {});
+        coalescingUserClient.validateUserRegistered("b@example.com", null, TOKEN).subscribe(u -> {}, e -> {});
+        coalescingUserClient.validateUserRegistered("c@example.com", null, TOKEN).subscribe(u -> {}, e -> {});
+
+        // Assert
+        verify(delegate, times(1)).getUsersByEmails(Set.of("a@example.com", "b@example.com", "c@example.com"), TOKEN);
+    }
+
+    @Test
+    void shouldFailWithUnregisteredUserWhenMissingFromBatch() {
+        // Arrange
+        when(delegate.getUsersByEmails(Set.of("missing@example.com"), TOKEN)).thenReturn(Mono.just(Map.of()));
+
+        // Act
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("missing@example.com", null, TOKEN).cache();
+        lookup.subscribe(u -> {}, e -> {});
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectError(UnregisteredUserException.class).verify();
+    }
+
+    @Test
+    void shouldFailAllWaitersWhenBatchCallFails() {
+        // Arrange
+        when(delegate.getUsersByEmails(Set.of("a@example.com"), TOKEN))
+                .thenReturn(Mono.error(new RuntimeException("Service down")));
+
+        // Act
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("a@example.com", null, TOKEN).cache();
+        lookup.subscribe(u -> {}, e -> {});
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectError(AuthenticationServiceUnavailableException.class).verify();
+    }
+
+    @Test
+    void shouldCoalesceDocumentValidationsAndAcceptMatchingDocument() {
+        // Arrange
+        UserDTO user = user("doc@example.com");
+        when(delegate.getUsersByEmails(Set.of("doc@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(user.email(), user)));
+
+        // Act
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("doc@example.com", "12345", TOKEN).cache();
+        lookup.subscribe();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectNext(user).verifyComplete();
+        verify(delegate, never()).validateUserRegistered(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldRejectDocumentThatDoesNotMatchBatchProfile() {
+        // Arrange
+        UserDTO user = user("doc@example.com");
+        when(delegate.getUsersByEmails(Set.of("doc@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(user.email(), user)));
+
+        // Act
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("doc@example.com", "99999", TOKEN).cache();
+        lookup.subscribe(u -> {}, e -> {});
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectError(UnregisteredUserException.class).verify();
+        verify(delegate, never()).validateUserRegistered(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldValidateIndividuallyWhenBatchProfileHasNoDocument() {
+        // Arrange
+        UserDTO withoutDocument = new UserDTO(UUID.randomUUID(), "User", "User", LocalDate.of(2000, 1, 1),
+                "Address", "1234567890", "doc@example.com", 1000L, null);
+        UserDTO validated = user("doc@example.com");
+        when(delegate.getUsersByEmails(Set.of("doc@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(withoutDocument.email(), withoutDocument)));
+        when(delegate.validateUserRegistered("doc@example.com", "12345", TOKEN)).thenReturn(Mono.just(validated));
+
+        // Act
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("doc@example.com", "12345", TOKEN).cache();
+        lookup.subscribe();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectNext(validated).verifyComplete();
+    }
+
+    @Test
+    void shouldDropCancelledLookupsFromPendingBatch() {
+        // Arrange
+        UserDTO kept = user("kept@example.com");
+        when(delegate.getUsersByEmails(Set.of("kept@example.com"), TOKEN))
+                .thenReturn(Mono.just(Map.of(kept.email(), kept)));
+
+        // Act
+        Disposable cancelled = coalescingUserClient.validateUserRegistered("gone@example.com", "12345", TOKEN)
+                .subscribe();
+        Mono<UserDTO> lookup = coalescingUserClient.validateUserRegistered("kept@example.com", "12345", TOKEN).cache();
+        lookup.subscribe();
+        cancelled.dispose();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        StepVerifier.create(lookup).expectNext(kept).verifyComplete();
+        verify(delegate, times(1)).getUsersByEmails(any(), anyString());
+    }
+
+    @Test
+    void shouldNotCallUserServiceWhenEveryLookupIsCancelled() {
+        // Act
+        coalescingUserClient.validateUserRegistered("gone@example.com", null, TOKEN).subscribe().dispose();
+        scheduler.advanceTimeBy(Duration.ofMillis(5));
+
+        // Assert
+        verify(delegate, never()).getUsersByEmails(any(), anyString());
+    }
+
+    private static UserDTO user(String email) {
+        return new UserDTO(UUID.randomUUID(), "User", "User", LocalDate.of(2000, 1, 1),
+                "Address", "1234567890", email, 1000L, "12345");
+    }
+}
@@ -65,7 +65,8 @@ class RestConsumerTest {
                 "Address",
                 "1234567890",
                 email,
-                1000L);
+                1000L,
+                documentNumber);
 
         String jsonResponse = """
             {
@@ -1,8 +1,13 @@
 package com.onix.security.config;
 
+import java.util.Map;
 import lombok.Generated;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * @param keyId           key id written to the header of issued tokens
+ * @param verificationKeys secrets of retired signing keys, by key id, still accepted until their tokens expire
+ */
 @Generated
 @ConfigurationProperties(prefix = "security.jwt")
 public record JwtConfigProperties (
@@ -11,5 +16,14 @@ public record JwtConfigProperties (
         String defaultRole,
         String defaultAdminRole,
         String tokenPrefix,
-        String defaultPassword) {
+        String defaultPassword,
+        String keyId,
+        Map<String, String> verificationKeys) {
+
+    public JwtConfigProperties {
+        if (keyId == null) {
+            keyId = "primary";
+        }
+        verificationKeys = verificationKeys == null ? Map.of() : Map.copyOf(verificationKeys);
+    }
 }
@@ -33,6 +33,7 @@ public class SecurityConfig {
                                 "/webjars/**",
                                 "/favicon.ico")
                         .permitAll()
+                        .pathMatchers("/actuator/loantypes/**").hasAuthority("ADMIN")
                         .anyExchange().authenticated())
                 .addFilterAfter(jwtFilter, SecurityWebFiltersOrder.FIRST)
                 .securityContextRepository(securityContextRepository)
@@ -1,29 +1,66 @@
 package com.onix.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.onix.security.config.JwtConfigProperties;
 import com.onix.security.exception.InvalidCredentialsException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class JwtProvider {
 
+    private static final int CLAIMS_CACHE_SIZE = 10_000;
+
     private final JwtConfigProperties jwtConfigProperties;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+    private final Cache<String, Claims> claimsCache = Caffeine.newBuilder()
+            .maximumSize(CLAIMS_CACHE_SIZE)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
+    /**
+     * Builds the signing key, the verification keys and the parser once; all three are immutable and shared
+     * by every request. Tokens are verified with the key named by their {@code kid} header, so a rotated-out
+     * key can stay in {@code verificationKeys} until the tokens it signed expire. Tokens without a
+     * {@code kid} were issued before key ids existed and are verified with the current signing key.
+     */
+    public JwtProvider(JwtConfigProperties jwtConfigProperties) {
+        this.jwtConfigProperties = jwtConfigProperties;
+        this.signingKey = getKey(jwtConfigProperties.secretKey());
+        Map<String, SecretKey> keys = new HashMap<>();
+        jwtConfigProperties.verificationKeys().forEach((kid, secret) -> keys.put(kid, getKey(secret)));
+        keys.put(jwtConfigProperties.keyId(), signingKey);
+        this.verificationKeys = Map.copyOf(keys);
+        this.parser = Jwts.parser()
+                .keyLocator(this::locateKey)
+                .build();
+    }
 
     public String generateToken(String email, String role) {
         Map<String, String> authority = Map.of("authority", role);
@@ -32,38 +69,41 @@ public class JwtProvider {
                 .claim("roles", List.of(authority))
                 .issuedAt(new Date())
                 .expiration(new Date(new Date().getTime() + jwtConfigProperties.expiration()))
-                .signWith(getKey(jwtConfigProperties.secretKey()))
+                .header().keyId(jwtConfigProperties.keyId()).and()
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Returns the verified claims of {@code token}. Each token is parsed and verified once; the claims are
+     * then served from a cache keyed by the token's SHA-256 digest until the token expires.
+     */
     public Claims getClaims(String token) {
-        validate(token);
-        return Jwts.parser()
-                .verifyWith(getKey(jwtConfigProperties.secretKey()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (token == null) {
+            return parse(null);
+        }
+        String digest = digest(token);
+        Claims cached = claimsCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parse(token);
+        claimsCache.put(digest, claims);
+        return claims;
     }
 
     public String getSubject(String token) {
-        validate(token);
-        return Jwts.parser()
-                .verifyWith(getKey(jwtConfigProperties.secretKey()))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return getClaims(token).getSubject();
     }
 
     public boolean validate(String token){
+        getClaims(token);
+        return true;
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getKey(jwtConfigProperties.secretKey()))
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.error("token expired");
             throw new InvalidCredentialsException("Token expired");
@@ -82,7 +122,50 @@ public class JwtProvider {
         }
     }
 
-    private SecretKey getKey(String secret) {
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Key locateKey(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id " + kid);
+        }
+        return key;
+    }
+
+    private static SecretKey getKey(String secret) {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
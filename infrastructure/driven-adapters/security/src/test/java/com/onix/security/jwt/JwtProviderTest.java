@@ -2,9 +2,9 @@ package com.onix.security.jwt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.lenient;
 
 import com.onix.security.config.JwtConfigProperties;
 import com.onix.security.exception.InvalidCredentialsException;
@@ -18,18 +18,10 @@ import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class JwtProviderTest {
 
-    @Mock
     private JwtConfigProperties jwtConfigProperties;
-
-    @InjectMocks
     private JwtProvider jwtProvider;
 
     private static final String SECRET_KEY = "a_super_secret_key_for_testing_purposes_with_at_least_32_chars";
@@ -38,8 +30,13 @@ class JwtProviderTest {
 
     @BeforeEach
     void setUp() {
-        lenient().when(jwtConfigProperties.secretKey()).thenReturn(SECRET_KEY);
-        lenient().when(jwtConfigProperties.expiration()).thenReturn(3600000); // 1 hour
+        jwtConfigProperties = properties(SECRET_KEY, "2024-01", Map.of());
+        jwtProvider = new JwtProvider(jwtConfigProperties);
+    }
+
+    private static JwtConfigProperties properties(String secretKey, String keyId, Map<String, String> verificationKeys) {
+        return new JwtConfigProperties(secretKey, 3600000, "ROLE_USER", "ROLE_ADMIN", "Bearer ", "Password123!",
+                keyId, verificationKeys);
     }
 
     @Test
@@ -124,4 +121,73 @@ class JwtProviderTest {
         InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class, () -> jwtProvider.validate(malformedToken));
         assertEquals("Invalid credentials. Token malformed", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldServeRepeatedTokenFromClaimsCache() {
+        // Arrange
+        String token = jwtProvider.generateToken(EMAIL, ROLE);
+
+        // Act
+        Claims first = jwtProvider.getClaims(token);
+        Claims second = jwtProvider.getClaims(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(EMAIL, jwtProvider.getSubject(token));
+    }
+
+    @Test
+    void shouldNotCacheRejectedToken() {
+        // Arrange
+        String anotherSecretKey = "another_different_secret_key_to_cause_a_bad_signature";
+        String badToken = Jwts.builder()
+                .subject(EMAIL)
+                .expiration(new Date(new Date().getTime() + 3600000))
+                .signWith(Keys.hmacShaKeyFor(anotherSecretKey.getBytes()))
+                .compact();
+
+        // Act & Assert
+        assertThrows(InvalidCredentialsException.class, () -> jwtProvider.getClaims(badToken));
+        assertThrows(InvalidCredentialsException.class, () -> jwtProvider.getClaims(badToken));
+    }
+
+    @Test
+    void shouldVerifyTokenSignedWithRotatedOutKey() {
+        // Arrange
+        String oldSecret = "the_previous_signing_secret_that_is_still_accepted_for_a_while";
+        String tokenFromOldKey = new JwtProvider(properties(oldSecret, "2023-12", Map.of()))
+                .generateToken(EMAIL, ROLE);
+        JwtProvider rotated = new JwtProvider(properties(SECRET_KEY, "2024-01", Map.of("2023-12", oldSecret)));
+
+        // Act
+        Claims claims = rotated.getClaims(tokenFromOldKey);
+
+        // Assert
+        assertEquals(EMAIL, claims.getSubject());
+    }
+
+    @Test
+    void shouldRejectTokenWithUnknownKeyId() {
+        // Arrange
+        String tokenFromRetiredKey = new JwtProvider(properties(SECRET_KEY, "retired", Map.of()))
+                .generateToken(EMAIL, ROLE);
+
+        // Act & Assert
+        InvalidCredentialsException exception = assertThrows(InvalidCredentialsException.class,
+                () -> jwtProvider.getClaims(tokenFromRetiredKey));
+        assertEquals("Invalid credentials. Bad signature", exception.getMessage());
+    }
+
+    @Test
+    void shouldVerifyLegacyTokenWithoutKeyIdWithCurrentKey() {
+        // Arrange
+        String legacyToken = Jwts.builder()
+                .subject(EMAIL)
+                .expiration(new Date(new Date().getTime() + 3600000))
+                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .compact();
+
+        // Act & Assert
+        assertEquals(EMAIL, jwtProvider.getSubject(legacyToken));
+    }
+}
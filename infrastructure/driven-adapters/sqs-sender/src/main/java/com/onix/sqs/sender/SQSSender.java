@@ -1,22 +1,53 @@
 package com.onix.sqs.sender;
 
-import com.onix.model.loanapplication.Loan;
 import com.onix.model.loanapplication.gateways.LoanStatusPublisher;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
 import com.onix.sqs.sender.config.SQSSenderProperties;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
+/**
+ * Publishes loan status messages with SendMessageBatch. Messages are buffered until ten are waiting
+ * (the SQS batch limit) or the linger time passes; each caller completes from its own entry's result,
+ * and only the entries SQS rejected are queued again, after an exponential backoff. Callers that get no
+ * result within the publish timeout are failed.
+ */
 @Service
 @Log4j2
-@RequiredArgsConstructor
-public class SQSSender implements LoanStatusPublisher {
+public class SQSSender implements LoanStatusPublisher, DisposableBean {
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final Duration EMIT_TIMEOUT = Duration.ofMillis(100);
+
     private final SQSSenderProperties properties;
     private final SqsAsyncClient client;
+    private final Sinks.Many<PendingMessage> pending = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable dispatcher;
+
+    public SQSSender(SQSSenderProperties properties, SqsAsyncClient client) {
+        this.properties = properties;
+        this.client = client;
+        this.dispatcher = pending.asFlux()
+                .bufferTimeout(MAX_BATCH_SIZE, properties.linger())
+                .flatMap(this::sendBatch)
+                .subscribe();
+    }
 
     public Mono<String> send(String message) {
         return Mono.fromCallable(() -> buildRequest(message))
@@ -33,23 +64,103 @@ public class SQSSender implements LoanStatusPublisher {
     }
 
     @Override
-    public Mono<Void> sendStatusUpdate(Loan loan, String status, String username) {
+    public Mono<Void> publish(LoanStatusEvent event) {
         String message = """
             {
+                "eventId": "%s",
                 "loanId": "%s",
                 "username": "%s",
                 "email": "%s",
                 "status": "%s"
             }
-            """.formatted(loan.getLoanId(), username, loan.getEmail(), status);
-
-        SendMessageRequest request = buildRequest(message);
+            """.formatted(event.getEventId(), event.getLoanId(), event.getUsername(), event.getEmail(), event.getStatus());
 
         log.trace("Publishing loan status to SQS: {}", message);
 
-        return Mono.fromFuture(() -> client.sendMessage(request))
-                .doOnSuccess(resp -> log.debug("SQS message sent, id={}", resp.messageId()))
+        return Mono.defer(() -> {
+                    PendingMessage pendingMessage = new PendingMessage(message, Sinks.one(), 1);
+                    enqueue(pendingMessage);
+                    return pendingMessage.result().asMono();
+                })
+                .timeout(properties.publishTimeout())
+                .doOnSuccess(messageId -> log.debug("SQS message sent, id={}", messageId))
                 .doOnError(err -> log.error("Error sending SQS message", err))
                 .then();
     }
+
+    private void enqueue(PendingMessage message) {
+        if (dispatcher.isDisposed()) {
+            message.result().tryEmitError(new IllegalStateException("SQS sender is shut down"));
+            return;
+        }
+        pending.emitNext(message, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+    }
+
+    private Mono<Void> sendBatch(List<PendingMessage> batch) {
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(properties.queueUrl())
+                .entries(IntStream.range(0, batch.size())
+                        .mapToObj(i -> SendMessageBatchRequestEntry.builder()
+                                .id(String.valueOf(i))
+                                .messageBody(batch.get(i).body())
+                                .build())
+                        .toList())
+                .build();
+
+        return Mono.fromFuture(() -> client.sendMessageBatch(request))
+                .doOnNext(response -> complete(batch, response))
+                .doOnError(err -> {
+                    log.warn("SQS batch of {} messages failed: {}", batch.size(), err.getMessage());
+                    batch.forEach(message -> retryOrFail(message, err));
+                })
+                .onErrorResume(err -> Mono.empty())
+                .then();
+    }
+
+    private void complete(List<PendingMessage> batch, SendMessageBatchResponse response) {
+        response.successful().forEach(entry ->
+                batch.get(Integer.parseInt(entry.id())).result().tryEmitValue(entry.messageId()));
+
+        Map<String, BatchResultErrorEntry> failed = response.failed().stream()
+                .collect(Collectors.toMap(BatchResultErrorEntry::id, Function.identity()));
+        failed.forEach((id, error) -> {
+            PendingMessage message = batch.get(Integer.parseInt(id));
+            SqsBatchEntryException cause = new SqsBatchEntryException(error.code(), error.message());
+            if (Boolean.TRUE.equals(error.senderFault())) {
+                message.result().tryEmitError(cause);
+            } else {
+                retryOrFail(message, cause);
+            }
+        });
+    }
+
+    private void retryOrFail(PendingMessage message, Throwable cause) {
+        if (message.attempt() < properties.maxAttempts()) {
+            Mono.delay(backoff(message.attempt()))
+                    .subscribe(tick -> enqueue(message.nextAttempt()));
+        } else {
+            message.result().tryEmitError(cause);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        return properties.retryBackoff().multipliedBy(1L << (attempt - 1));
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.dispose();
+    }
+
+    private record PendingMessage(String body, Sinks.One<String> result, int attempt) {
+        PendingMessage nextAttempt() {
+            return new PendingMessage(body, result, attempt + 1);
+        }
+    }
+
+    static class SqsBatchEntryException extends RuntimeException {
+        SqsBatchEntryException(String code, String message) {
+            super("SQS rejected message: " + code + " " + message);
+        }
+    }
 }
@@ -1,10 +1,36 @@
 package com.onix.sqs.sender.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * @param linger         how long a partially filled batch waits for more messages before it is sent
+ * @param maxAttempts    how many times an entry is sent before its caller is failed
+ * @param retryBackoff   wait before the first retry of a failed entry; it doubles on every further attempt
+ * @param publishTimeout how long a caller waits for its entry's result before it is failed
+ */
 @ConfigurationProperties(prefix = "adapter.sqs")
 public record SQSSenderProperties(
      String region,
      String queueUrl,
-     String endpoint){
+     String endpoint,
+     Duration linger,
+     Integer maxAttempts,
+     Duration retryBackoff,
+     Duration publishTimeout){
+
+    public SQSSenderProperties {
+        if (linger == null) {
+            linger = Duration.ofMillis(50);
+        }
+        if (maxAttempts == null) {
+            maxAttempts = 3;
+        }
+        if (retryBackoff == null) {
+            retryBackoff = Duration.ofMillis(200);
+        }
+        if (publishTimeout == null) {
+            publishTimeout = Duration.ofSeconds(30);
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.onix.sqs.sender;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+/**
+ * Queue stand-in that accepts SendMessageBatch calls and can be told to reject given message bodies.
+ */
+class InMemorySqsAsyncClient implements SqsAsyncClient {
+
+    final List<String> messages = new CopyOnWriteArrayList<>();
+    final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectOnce = new HashSet<>();
+    private final Set<String> rejectAlways = new HashSet<>();
+
+    void rejectOnce(String bodyFragment) {
+        rejectOnce.add(bodyFragment);
+    }
+
+    void rejectAlways(String bodyFragment) {
+        rejectAlways.add(bodyFragment);
+    }
+
+    @Override
+    public synchronized CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+        batchSizes.add(request.entries().size());
+        List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+        List<BatchResultErrorEntry> failed = new ArrayList<>();
+        for (SendMessageBatchRequestEntry entry : request.entries()) {
+            if (shouldReject(entry.messageBody())) {
+                failed.add(BatchResultErrorEntry.builder()
+                        .id(entry.id())
+                        .code("InternalError")
+                        .message("Rejected by stand-in")
+                        .senderFault(false)
+                        .build());
+            } else {
+                messages.add(entry.messageBody());
+                successful.add(SendMessageBatchResultEntry.builder()
+                        .id(entry.id())
+                        .messageId(UUID.randomUUID().toString())
+                        .build());
+            }
+        }
+        return CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                .successful(successful)
+                .failed(failed)
+                .build());
+    }
+
+    private boolean shouldReject(String body) {
+        if (rejectAlways.stream().anyMatch(body::contains)) {
+            return true;
+        }
+        return rejectOnce.removeIf(body::contains);
+    }
+
+    @Override
+    public String serviceName() {
+        return "sqs";
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
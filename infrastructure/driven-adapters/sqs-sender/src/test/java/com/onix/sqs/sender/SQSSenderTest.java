@@ -0,0 +1,143 @@
+package com.onix.sqs.sender;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import com.onix.sqs.sender.config.SQSSenderProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+class SQSSenderTest {
+
+    private InMemorySqsAsyncClient client;
+    private SQSSender sender;
+
+    @BeforeEach
+    void setUp() {
+        client = new InMemorySqsAsyncClient();
+        sender = new SQSSender(properties(Duration.ofMillis(100), Duration.ofSeconds(5)), client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.destroy();
+    }
+
+    @Test
+    void shouldSendConcurrentMessagesInBatchesOfTen() {
+        // Arrange
+        List<Mono<Void>> publishes = IntStream.range(0, 25)
+                .mapToObj(i -> sender.publish(event("Approved")))
+                .toList();
+
+        // Act & Assert
+        StepVerifier.create(Flux.merge(publishes).then())
+                .verifyComplete();
+        assertEquals(25, client.messages.size());
+        assertTrue(client.batchSizes.stream().allMatch(size -> size <= 10));
+        assertTrue(client.batchSizes.size() < 25);
+    }
+
+    @Test
+    void shouldRetryOnlyRejectedEntries() {
+        // Arrange
+        LoanStatusEvent rejected = event("Rejected");
+        client.rejectOnce(rejected.getEventId().toString());
+
+        // Act & Assert
+        StepVerifier.create(Flux.merge(sender.publish(event("Approved")), sender.publish(rejected)).then())
+                .verifyComplete();
+        assertEquals(2, client.messages.size());
+        assertEquals(1, client.messages.stream().filter(body -> body.contains(rejected.getEventId().toString())).count());
+    }
+
+    @Test
+    void shouldFailCallerWhenEntryKeepsFailing() {
+        // Arrange
+        LoanStatusEvent rejected = event("Rejected");
+        client.rejectAlways(rejected.getEventId().toString());
+
+        // Act & Assert
+        StepVerifier.create(sender.publish(rejected))
+                .expectError(SQSSender.SqsBatchEntryException.class)
+                .verify(Duration.ofSeconds(5));
+        StepVerifier.create(sender.publish(event("Approved")))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldBackOffBeforeRetryingRejectedEntry() {
+        // Arrange
+        LoanStatusEvent rejected = event("Rejected");
+        client.rejectAlways(rejected.getEventId().toString());
+        long start = System.nanoTime();
+
+        // Act & Assert
+        StepVerifier.create(sender.publish(rejected))
+                .expectError(SQSSender.SqsBatchEntryException.class)
+                .verify(Duration.ofSeconds(5));
+        // Three attempts wait 100 ms and then 200 ms between them.
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(300)) >= 0);
+        assertEquals(3, client.batchSizes.size());
+    }
+
+    @Test
+    void shouldFailCallerWhenBatchNeverCompletes() {
+        // Arrange
+        SQSSender stalled = new SQSSender(properties(Duration.ofMillis(10), Duration.ofMillis(200)),
+                new InMemorySqsAsyncClient() {
+                    @Override
+                    public CompletableFuture<SendMessageBatchResponse> sendMessageBatch(SendMessageBatchRequest request) {
+                        return new CompletableFuture<>();
+                    }
+                });
+
+        // Act & Assert
+        try {
+            StepVerifier.create(stalled.publish(event("Approved")))
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            stalled.destroy();
+        }
+    }
+
+    @Test
+    void shouldFailCallerOnceSenderIsShutDown() {
+        // Arrange
+        sender.destroy();
+
+        // Act & Assert
+        StepVerifier.create(sender.publish(event("Approved")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static SQSSenderProperties properties(Duration retryBackoff, Duration publishTimeout) {
+        return new SQSSenderProperties("us-east-1", "http://localhost/queue", null, Duration.ofMillis(20), 3,
+                retryBackoff, publishTimeout);
+    }
+
+    private static LoanStatusEvent event(String status) {
+        return LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("test@example.com")
+                .username("Test User")
+                .status(status)
+                .build();
+    }
+}
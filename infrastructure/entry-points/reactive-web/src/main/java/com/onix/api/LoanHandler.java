@@ -1,24 +1,39 @@
 package com.onix.api;
 
 import com.onix.api.config.LoanConfig;
+import com.onix.api.dto.BulkLoanResponseDTO;
+import com.onix.api.dto.BulkStatusUpdateResponseDTO;
+import com.onix.api.dto.BulkUpdateLoanStatusDTO;
 import com.onix.api.dto.CreateLoanDTO;
+import com.onix.api.dto.LoanStatusChangeDTO;
 import com.onix.api.dto.UpdateLoanStatusDTO;
+import com.onix.api.mapper.LoanCsvMapper;
 import com.onix.api.mapper.LoanMapper;
 import com.onix.api.validator.LoggingLoanValidator;
+import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.PageDTO;
 import com.onix.security.exception.UnauthorizedClientException;
 import com.onix.shared.dto.ApiResponse;
 import com.onix.usecase.loanapplication.LoanUseCase;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -26,6 +41,10 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class LoanHandler {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+    private static final int MAX_BULK_LOANS = 1000;
+    private static final Duration STATUS_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
     private final LoanUseCase loanUseCase;
     private final LoanConfig loanConfig;
     private final LoanMapper loanMapper;
@@ -69,6 +88,40 @@ public class LoanHandler {
                 });
     }
 
+    /**
+     * Accepts a JSON array or an NDJSON stream of loans and answers with one result per item, in submission
+     * order; invalid items are reported as rejected without affecting the others. Open to partner channels,
+     * which submit on behalf of their clients, so the token's email is not matched against the loans.
+     */
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'PARTNER')")
+    public Mono<ServerResponse> listenBulkSaveLoans(ServerRequest request) {
+        log.trace("Submitted bulk loan application request");
+        String token = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+
+        Flux<Loan> loans = request.bodyToFlux(CreateLoanDTO.class)
+                .index()
+                .handle((item, sink) -> {
+                    if (item.getT1() >= MAX_BULK_LOANS) {
+                        sink.error(new IllegalArgumentException(
+                                "A bulk submission accepts at most " + MAX_BULK_LOANS + " loans"));
+                        return;
+                    }
+                    sink.next(loanMapper.toModel(item.getT2()));
+                });
+
+        return loanUseCase.createLoanApplications(loans, token)
+                .map(loanMapper::toBulkResultDto)
+                .collectList()
+                .map(BulkLoanResponseDTO::of)
+                .doOnNext(response -> log.debug("Bulk submission processed: {} created, {} rejected",
+                        response.created(), response.rejected()))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(ApiResponse.success(
+                                HttpStatus.OK.value(),
+                                "Bulk submission processed",
+                                response)));
+    }
 
     @PreAuthorize("hasAuthority('ADMIN')")
     public Mono<ServerResponse> listenFilterLoans(ServerRequest request) {
@@ -78,9 +131,15 @@ public class LoanHandler {
         int size = request.queryParam("size").map(Integer::parseInt).orElse(2);
         String sortBy = request.queryParam("sortBy").orElse("email");
         String filter = request.queryParam("status").orElse("Pending Review");
+        Optional<String> cursor = request.queryParam("cursor");
+
+        Mono<PageDTO<LoanPageableDTO>> pageMono = cursor.isPresent()
+                ? loanUseCase.getPendingLoans(cursor.get(), size, sortBy, filter, token)
+                : loanUseCase.getPendingLoans(page, size, sortBy, filter, token);
 
-        return loanUseCase.getPendingLoans(page, size, sortBy, filter, token)
-                .as(transactionalOperator::transactional)
+        // No transaction: each query borrows a read-only connection of its own and returns it before the
+        // page is enriched with user data.
+        return pageMono
                 .doOnNext(pageDTO -> log.debug("Loans retrieved successfully, page {} of {}",
                         pageDTO.pageNumber(), pageDTO.totalPages()))
                 .flatMap(pageDTO -> ServerResponse
@@ -94,6 +153,58 @@ public class LoanHandler {
                 );
     }
 
+    /**
+     * Streams every loan with the requested status as NDJSON (the default) or CSV, chosen by the
+     * {@code format} query parameter or else the Accept header. Rows are written as they arrive from the
+     * database, and the export is not wrapped in a transaction so no connection is pinned to a long
+     * download beyond the query itself.
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public Mono<ServerResponse> exportLoans(ServerRequest request) {
+        String token = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        String filter = request.queryParam("status").orElse("Pending Review");
+        Optional<String> format = request.queryParam("format").map(String::toLowerCase);
+        if (format.isPresent() && !format.get().equals("csv") && !format.get().equals("ndjson")) {
+            return Mono.error(new IllegalArgumentException("Unsupported export format: " + format.get()));
+        }
+        boolean csv = format.map("csv"::equals)
+                .orElseGet(() -> request.headers().accept().stream().anyMatch(TEXT_CSV::equalsTypeAndSubtype));
+        log.trace("Received request to export loans with status {} as {}", filter, csv ? "CSV" : "NDJSON");
+
+        Flux<LoanPageableDTO> loans = loanUseCase.exportLoans(filter, token);
+        if (csv) {
+            return ServerResponse.ok()
+                    .contentType(TEXT_CSV)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"loans.csv\"")
+                    .body(Flux.concat(Flux.just(LoanCsvMapper.HEADER), loans.map(LoanCsvMapper::toCsvLine)), String.class);
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(loans, LoanPageableDTO.class);
+    }
+
+    /**
+     * Pushes committed loan status changes as Server-Sent Events until the client disconnects. A comment
+     * line is sent every {@link #STATUS_HEARTBEAT_INTERVAL} so idle connections are not closed by proxies.
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public Mono<ServerResponse> streamStatusChanges(ServerRequest request) {
+        log.trace("Received subscription to loan status changes");
+        Flux<ServerSentEvent<LoanStatusChangeDTO>> changes = loanUseCase.statusChanges()
+                .map(event -> ServerSentEvent.builder(LoanStatusChangeDTO.of(event))
+                        .id(event.getEventId().toString())
+                        .event("loan-status")
+                        .build());
+        Flux<ServerSentEvent<LoanStatusChangeDTO>> heartbeats = Flux.interval(STATUS_HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<LoanStatusChangeDTO>builder()
+                        .comment("heartbeat")
+                        .build());
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromServerSentEvents(Flux.merge(changes, heartbeats)));
+    }
+
     @PreAuthorize("hasAuthority('ADMIN')")
     public Mono<ServerResponse> updateLoanStatus(ServerRequest request) {
         String token = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
@@ -101,7 +212,6 @@ public class LoanHandler {
         return request.bodyToMono(UpdateLoanStatusDTO.class)
                 .doOnNext(dto -> log.trace("Received request to update loan status to {} for loan with id: {}", dto.status(), dto.id()))
                 .flatMap(dto -> loanUseCase.updateLoanStatus(dto.id(), dto.status(), token))
-                .as(transactionalOperator::transactional)
                 .map(loanMapper::toDto)
                 .doOnNext(updatedLoan -> log.debug("Loan {} status updated successfully", updatedLoan.loanId()))
                 .flatMap(updatedLoan -> ServerResponse.ok()
@@ -112,5 +222,34 @@ public class LoanHandler {
                                 updatedLoan)));
     }
 
+    /**
+     * Moves up to {@value #MAX_BULK_LOANS} loans to one status and answers with an outcome per distinct id;
+     * loans that are missing or already in the status are reported as skipped.
+     */
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public Mono<ServerResponse> updateLoanStatuses(ServerRequest request) {
+        String token = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
 
+        return request.bodyToMono(BulkUpdateLoanStatusDTO.class)
+                .doOnNext(dto -> log.trace("Received request to update {} loans to status {}",
+                        dto.ids() == null ? 0 : dto.ids().size(), dto.status()))
+                .flatMap(dto -> {
+                    List<UUID> ids = dto.ids() == null ? List.of() : dto.ids();
+                    if (ids.size() > MAX_BULK_LOANS) {
+                        return Mono.error(new IllegalArgumentException(
+                                "A bulk status update accepts at most " + MAX_BULK_LOANS + " loans"));
+                    }
+                    return loanUseCase.updateLoanStatuses(ids, dto.status(), token)
+                            .collectList();
+                })
+                .map(BulkStatusUpdateResponseDTO::of)
+                .doOnNext(response -> log.debug("Bulk status update processed: {} updated, {} skipped",
+                        response.updated(), response.skipped()))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(ApiResponse.success(
+                                HttpStatus.OK.value(),
+                                "Bulk status update processed",
+                                response)));
+    }
 }
@@ -21,8 +21,12 @@ public class RouterRest {
     public RouterFunction<ServerResponse> routerFunction(LoanHandler handler) {
         return route()
                 .POST(loanConfig.getLoan(), loanHandler::listenSaveLoan, LoanOpenApi::createLoan)
+                .POST(loanConfig.getBulk(), loanHandler::listenBulkSaveLoans, LoanOpenApi::createLoans)
                 .GET(loanConfig.getLoan(), loanHandler::listenFilterLoans, LoanOpenApi::createLoan)
+                .GET(loanConfig.getExport(), loanHandler::exportLoans, LoanOpenApi::exportLoans)
+                .GET(loanConfig.getEvents(), loanHandler::streamStatusChanges, LoanOpenApi::streamStatusChanges)
                 .PUT(loanConfig.getLoan(), loanHandler::updateLoanStatus, LoanOpenApi::createLoan)
+                .PUT(loanConfig.getBulk(), loanHandler::updateLoanStatuses, LoanOpenApi::updateLoanStatuses)
         .build();
     }
 }
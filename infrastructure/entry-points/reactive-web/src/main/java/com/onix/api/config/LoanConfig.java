@@ -14,6 +14,9 @@ public class LoanConfig {
     private String loan;
     private String type;
     private String status;
+    private String export;
+    private String bulk;
+    private String events;
 
     public String getLoan() {
         return base + loan;
@@ -23,6 +26,18 @@ public class LoanConfig {
         return base + type;
     }
 
+    public String getBulk() {
+        return base + bulk;
+    }
+
+    public String getEvents() {
+        return base + events;
+    }
+
+    public String getExport() {
+        return base + export;
+    }
+
     public String getStatus() {
         return base + status;
     }
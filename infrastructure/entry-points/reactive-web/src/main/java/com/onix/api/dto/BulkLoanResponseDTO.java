@@ -0,0 +1,17 @@
+package com.onix.api.dto;
+
+import java.util.List;
+
+public record BulkLoanResponseDTO(
+        int received,
+        int created,
+        int rejected,
+        List<BulkLoanResultDTO> results) {
+
+    public static BulkLoanResponseDTO of(List<BulkLoanResultDTO> results) {
+        int created = (int) results.stream()
+                .filter(result -> BulkLoanResultDTO.CREATED.equals(result.status()))
+                .count();
+        return new BulkLoanResponseDTO(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,15 @@
+package com.onix.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BulkLoanResultDTO(
+        long index,
+        String status,
+        LoanDTO loan,
+        List<String> errors) {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+}
@@ -0,0 +1,18 @@
+package com.onix.api.dto;
+
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult;
+import java.util.List;
+
+public record BulkStatusUpdateResponseDTO(
+        int received,
+        int updated,
+        int skipped,
+        List<BulkStatusUpdateResult> results) {
+
+    public static BulkStatusUpdateResponseDTO of(List<BulkStatusUpdateResult> results) {
+        int updated = (int) results.stream()
+                .filter(BulkStatusUpdateResult::updated)
+                .count();
+        return new BulkStatusUpdateResponseDTO(results.size(), updated, results.size() - updated, results);
+    }
+}
@@ -0,0 +1,9 @@
+package com.onix.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUpdateLoanStatusDTO(
+        List<UUID> ids,
+        String status) {
+}
@@ -0,0 +1,18 @@
+package com.onix.api.dto;
+
+import com.onix.model.loanstatusevent.LoanStatusEvent;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record LoanStatusChangeDTO(
+        UUID loanId,
+        String email,
+        String username,
+        String status,
+        LocalDateTime changedAt) {
+
+    public static LoanStatusChangeDTO of(LoanStatusEvent event) {
+        return new LoanStatusChangeDTO(event.getLoanId(), event.getEmail(), event.getUsername(),
+                event.getStatus(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,48 @@
+package com.onix.api.mapper;
+
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Writes loans as RFC 4180 CSV lines, each terminated by CRLF. Text cells that a spreadsheet would read as a
+ * formula are prefixed with a quote.
+ */
+@UtilityClass
+public class LoanCsvMapper {
+
+    public static final String HEADER = line(Stream.of("loanId", "amount", "termMonths", "email", "userName",
+            "loanType", "interestRate", "status", "baseSalary", "monthlyAmountRequested", "createdAt"));
+
+    public String toCsvLine(LoanPageableDTO loan) {
+        return line(Stream.of(
+                loan.loanId(),
+                loan.amount(),
+                loan.termMonths(),
+                loan.email(),
+                loan.userName(),
+                loan.loanType(),
+                loan.interestRate(),
+                loan.status(),
+                loan.baseSalary(),
+                loan.monthlyAmountRequested(),
+                loan.createdAt()));
+    }
+
+    private String line(Stream<?> cells) {
+        return cells.map(cell -> cell == null ? "" : escape(Objects.toString(cell)))
+                .collect(Collectors.joining(",", "", "\r\n"));
+    }
+
+    private String escape(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -1,9 +1,12 @@
 package com.onix.api.mapper;
 
+import com.onix.api.dto.BulkLoanResultDTO;
 import com.onix.api.dto.CreateLoanDTO;
 import com.onix.api.dto.LoanDTO;
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.dto.BulkLoanResult;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -15,7 +18,15 @@ public interface LoanMapper {
 
     @Mapping(target = "loanId", ignore = true)
     @Mapping(target = "statusId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     Loan toModel(CreateLoanDTO dto);
 
     LoanPageableDTO toPageableDto(Loan loan);
+
+    default BulkLoanResultDTO toBulkResultDto(BulkLoanResult result) {
+        if (result.accepted()) {
+            return new BulkLoanResultDTO(result.index(), BulkLoanResultDTO.CREATED, toDto(result.loan()), List.of());
+        }
+        return new BulkLoanResultDTO(result.index(), BulkLoanResultDTO.REJECTED, null, result.errors());
+    }
 }
@@ -1,13 +1,21 @@
 package com.onix.api.openapi;
 
+import static org.springdoc.core.fn.builders.apiresponse.Builder.responseBuilder;
+import static org.springdoc.core.fn.builders.arrayschema.Builder.arraySchemaBuilder;
 import static org.springdoc.core.fn.builders.content.Builder.contentBuilder;
 import static org.springdoc.core.fn.builders.exampleobject.Builder.exampleOjectBuilder;
+import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
 import static org.springdoc.core.fn.builders.requestbody.Builder.requestBodyBuilder;
 import static org.springdoc.core.fn.builders.schema.Builder.schemaBuilder;
 
+import com.onix.api.dto.BulkUpdateLoanStatusDTO;
 import com.onix.api.dto.CreateLoanDTO;
 import com.onix.api.dto.LoanDTO;
+import com.onix.api.dto.LoanStatusChangeDTO;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 import lombok.experimental.UtilityClass;
 import org.springdoc.core.fn.builders.operation.Builder;
@@ -52,4 +60,97 @@ public class LoanOpenApi {
                 .response(UtilOpenApi.responseApiBuilder(500, "Internal server error", null))
                 .response(UtilOpenApi.responseApiBuilder(503, "Service unavailable", null));;
     }
+
+    public void createLoans(Builder builder) {
+        var requestExample = List.of(new CreateLoanDTO(
+                BigDecimal.valueOf(9000),
+                12,
+                "email@email.com",
+                "1234567890",
+                1
+        ));
+
+        builder
+                .operationId("submitLoans")
+                .summary("Submit loans in bulk")
+                .description("Submit a JSON array or NDJSON stream of loans; each item is accepted or rejected on its own")
+                .tag("Loan")
+                .requestBody(requestBodyBuilder()
+                        .required(true)
+                        .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_JSON_VALUE)
+                                .array(arraySchemaBuilder().schema(schemaBuilder().implementation(CreateLoanDTO.class)))
+                                .example(exampleOjectBuilder()
+                                        .value(UtilOpenApi.createObjectToString(requestExample))))
+                        .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_NDJSON_VALUE)
+                                .schema(schemaBuilder().implementation(CreateLoanDTO.class))))
+                .response(UtilOpenApi.responseApiBuilder(200, "Bulk submission processed", null))
+                .response(UtilOpenApi.responseApiBuilder(400, "Too many loans or malformed body", null))
+                .response(UtilOpenApi.responseApiBuilder(500, "Internal server error", null));
+    }
+
+    public void updateLoanStatuses(Builder builder) {
+        var requestExample = new BulkUpdateLoanStatusDTO(
+                List.of(UUID.fromString("3f1c2b9e-7a4d-4c2e-9b1f-5d8e6a7c0b12")),
+                "Approved"
+        );
+
+        builder
+                .operationId("updateLoanStatuses")
+                .summary("Update the status of several loans")
+                .description("Moves every listed loan to the given status; missing loans and loans already in it are skipped")
+                .tag("Loan")
+                .requestBody(requestBodyBuilder()
+                        .required(true)
+                        .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_JSON_VALUE)
+                                .schema(schemaBuilder().implementation(BulkUpdateLoanStatusDTO.class))
+                                .example(exampleOjectBuilder()
+                                        .value(UtilOpenApi.createObjectToString(requestExample)))))
+                .response(UtilOpenApi.responseApiBuilder(200, "Bulk status update processed", null))
+                .response(UtilOpenApi.responseApiBuilder(400, "Too many loans or invalid status", null))
+                .response(UtilOpenApi.responseApiBuilder(500, "Internal server error", null));
+    }
+
+    public void exportLoans(Builder builder) {
+        builder
+                .operationId("exportLoans")
+                .summary("Export loans")
+                .description("Streams every loan with the given status as NDJSON or CSV")
+                .tag("Loan")
+                .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("status")
+                        .description("Loan status name; defaults to Pending Review"))
+                .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("format")
+                        .description("ndjson or csv; defaults to the Accept header, then ndjson"))
+                .response(responseBuilder()
+                        .responseCode("200")
+                        .description("Loans streamed successfully")
+                        .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_NDJSON_VALUE)
+                                .schema(schemaBuilder().implementation(LoanPageableDTO.class)))
+                        .content(contentBuilder()
+                                .mediaType("text/csv")))
+                .response(UtilOpenApi.responseApiBuilder(400, "Unsupported export format", null))
+                .response(UtilOpenApi.responseApiBuilder(500, "Internal server error", null));
+    }
+
+    public void streamStatusChanges(Builder builder) {
+        builder
+                .operationId("streamStatusChanges")
+                .summary("Stream loan status changes")
+                .description("Pushes every committed loan status change as a Server-Sent Event named loan-status")
+                .tag("Loan")
+                .response(responseBuilder()
+                        .responseCode("200")
+                        .description("Status changes streamed until the client disconnects")
+                        .content(contentBuilder()
+                                .mediaType(MediaType.TEXT_EVENT_STREAM_VALUE)
+                                .schema(schemaBuilder().implementation(LoanStatusChangeDTO.class))))
+                .response(UtilOpenApi.responseApiBuilder(500, "Internal server error", null));
+    }
 }
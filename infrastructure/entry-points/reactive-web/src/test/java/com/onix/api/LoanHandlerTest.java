@@ -203,4 +203,28 @@ class LoanHandlerTest {
                 })
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFilterLoansWithCursorWhenCursorParamIsPresent() {
+        // Arrange
+        PageDTO pageDTO = new PageDTO(List.of(), 0, 2, 0L, 0, false, true, null);
+        when(serverRequest.headers()).thenReturn(headers);
+        when(headers.firstHeader(HttpHeaders.AUTHORIZATION)).thenReturn(VALID_TOKEN);
+
+        when(serverRequest.queryParam("page")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("size")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("sortBy")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("status")).thenReturn(Optional.empty());
+        when(serverRequest.queryParam("cursor")).thenReturn(Optional.of("cursor-token"));
+        when(loanUseCase.getPendingLoans("cursor-token", 2, "email", "Pending Review", VALID_TOKEN)).thenReturn(Mono.just(pageDTO));
+
+        // Act
+        Mono<ServerResponse> responseMono = loanHandler.listenFilterLoans(serverRequest);
+
+        // Assert
+        StepVerifier.create(responseMono)
+                .assertNext(serverResponse -> assertEquals(HttpStatus.OK, serverResponse.statusCode()))
+                .verifyComplete();
+        verify(loanUseCase, never()).getPendingLoans(anyInt(), anyInt(), anyString(), anyString(), anyString());
+    }
+}
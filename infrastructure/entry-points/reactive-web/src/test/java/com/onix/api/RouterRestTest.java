@@ -1,13 +1,20 @@
 package com.onix.api;
 
 import com.onix.api.config.LoanConfig;
+import com.onix.api.dto.BulkUpdateLoanStatusDTO;
 import com.onix.api.dto.CreateLoanDTO;
 import com.onix.api.dto.LoanDTO;
+import com.onix.api.dto.LoanStatusChangeDTO;
+import com.onix.api.mapper.LoanCsvMapper;
 import com.onix.api.mapper.LoanMapper;
 import com.onix.api.validator.LoggingLoanValidator;
 import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.dto.BulkLoanResult;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult;
+import com.onix.model.loanapplication.dto.BulkStatusUpdateResult.Outcome;
 import com.onix.model.loanapplication.dto.LoanPageableDTO;
 import com.onix.model.loanapplication.dto.PageDTO;
+import com.onix.model.loanstatusevent.LoanStatusEvent;
 import com.onix.security.config.SecurityConfig;
 import com.onix.security.jwt.JwtFilter;
 import com.onix.security.jwt.JwtProvider;
@@ -21,7 +28,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -30,12 +39,17 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = {RouterRest.class, LoanHandler.class})
@@ -45,6 +59,9 @@ import static org.mockito.Mockito.when;
 class RouterRestTest {
 
     private static final String LOANS_PATH = "/api/v1/loan";
+    private static final String EXPORT_PATH = "/api/v1/loan/export";
+    private static final String BULK_PATH = "/api/v1/loan/bulk";
+    private static final String EVENTS_PATH = "/api/v1/loan/events";
 
     @Autowired
     private WebTestClient webTestClient;
@@ -133,7 +150,7 @@ class RouterRestTest {
         // Arrange
         LoanPageableDTO dto1 = new LoanPageableDTO(
                 UUID.randomUUID(), BigDecimal.valueOf(5000), 12, "test1@example.com",
-                "John Doe", "Personal", BigDecimal.TEN, "Pending Review", null, null);
+                "John Doe", "Personal", BigDecimal.TEN, "Pending Review", null, null, LocalDateTime.now());
         PageDTO response = new PageDTO(
                 List.of(dto1),
                 0,
@@ -160,6 +177,180 @@ class RouterRestTest {
                 .expectBody()
                 .jsonPath("$.httpCode").isEqualTo(200)
                 .jsonPath("$.data.content[0].email").isEqualTo("test1@example.com");
+        verify(transactionalOperator, never()).transactional(any(Mono.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldExportLoansAsNdjsonByDefault() {
+        // Arrange
+        LoanPageableDTO dto = new LoanPageableDTO(
+                UUID.randomUUID(), BigDecimal.valueOf(5000), 12, "test1@example.com",
+                "John Doe", "Personal", BigDecimal.TEN, "Pending Review", 3000L, BigDecimal.valueOf(416.67), null);
+        when(loanUseCase.exportLoans(any(String.class), any(String.class))).thenReturn(Flux.just(dto, dto));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(EXPORT_PATH)
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(LoanPageableDTO.class)
+                .hasSize(2);
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldStreamStatusChangesAsServerSentEvents() {
+        // Arrange
+        LoanStatusEvent event = LoanStatusEvent.builder()
+                .eventId(UUID.randomUUID())
+                .loanId(UUID.randomUUID())
+                .email("test1@example.com")
+                .username("John Doe")
+                .status("Approved")
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(loanUseCase.statusChanges()).thenReturn(Flux.concat(Flux.just(event), Flux.never()));
+
+        // Act
+        Flux<ServerSentEvent<LoanStatusChangeDTO>> body = webTestClient.get()
+                .uri(EVENTS_PATH)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<LoanStatusChangeDTO>>() { })
+                .getResponseBody();
+
+        // Assert
+        StepVerifier.create(body)
+                .expectNextMatches(sse -> "loan-status".equals(sse.event())
+                        && event.getEventId().toString().equals(sse.id())
+                        && sse.data().loanId().equals(event.getLoanId())
+                        && "Approved".equals(sse.data().status()))
+                .thenCancel()
+                .verify();
     }
-}
 
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldExportLoansAsCsvWhenRequested() {
+        // Arrange
+        UUID loanId = UUID.randomUUID();
+        LoanPageableDTO dto = new LoanPageableDTO(
+                loanId, BigDecimal.valueOf(5000), 12, "test1@example.com",
+                "Doe, John", "Personal", BigDecimal.TEN, "Pending Review", null, null, null);
+        when(loanUseCase.exportLoans("Approved", "Bearer mock-token")).thenReturn(Flux.just(dto));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(EXPORT_PATH)
+                        .queryParam("status", "Approved")
+                        .queryParam("format", "csv")
+                        .build())
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(new MediaType("text", "csv"))
+                .expectBody(String.class)
+                .isEqualTo(LoanCsvMapper.HEADER
+                        + loanId + ",5000,12,test1@example.com,\"Doe, John\",Personal,10,Pending Review,,,\r\n");
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldReturnPerItemResultsForBulkSubmission() {
+        // Arrange
+        CreateLoanDTO createLoanDTO = new CreateLoanDTO(BigDecimal.valueOf(1000L), 12, "email@email.com", "1234", 1);
+        Loan loan = new Loan().toBuilder().email("email@email.com").build();
+        when(loanMapper.toModel(any())).thenReturn(loan);
+        when(loanUseCase.createLoanApplications(any(), any())).thenReturn(Flux.just(
+                new BulkLoanResult(0, loan, List.of()),
+                new BulkLoanResult(1, loan, List.of("Email format is invalid"))));
+        when(loanMapper.toBulkResultDto(any())).thenCallRealMethod();
+        when(loanMapper.toDto(any())).thenReturn(
+                new LoanDTO(UUID.randomUUID(), BigDecimal.valueOf(1000L), 12, "email@email.com", "1234", 1, 1));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri(BULK_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(createLoanDTO, createLoanDTO))
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.received").isEqualTo(2)
+                .jsonPath("$.data.created").isEqualTo(1)
+                .jsonPath("$.data.results[0].status").isEqualTo("CREATED")
+                .jsonPath("$.data.results[1].status").isEqualTo("REJECTED")
+                .jsonPath("$.data.results[1].errors[0]").isEqualTo("Email format is invalid");
+    }
+
+    @Test
+    @WithMockUser(authorities = "PARTNER")
+    void shouldAcceptBulkSubmissionFromPartnerChannel() {
+        // Arrange
+        CreateLoanDTO createLoanDTO = new CreateLoanDTO(BigDecimal.valueOf(1000L), 12, "email@email.com", "1234", 1);
+        Loan loan = new Loan().toBuilder().email("email@email.com").build();
+        when(loanMapper.toModel(any())).thenReturn(loan);
+        when(loanUseCase.createLoanApplications(any(), any())).thenReturn(Flux.just(new BulkLoanResult(0, loan, List.of())));
+        when(loanMapper.toBulkResultDto(any())).thenCallRealMethod();
+        when(loanMapper.toDto(any())).thenReturn(
+                new LoanDTO(UUID.randomUUID(), BigDecimal.valueOf(1000L), 12, "email@email.com", "1234", 1, 1));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri(BULK_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(createLoanDTO))
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.created").isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(authorities = "USER")
+    void shouldRejectBulkSubmissionFromClient() {
+        // Act & Assert
+        webTestClient.post()
+                .uri(BULK_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isForbidden();
+        verify(loanUseCase, never()).createLoanApplications(any(), any());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void shouldReturnPerLoanOutcomesForBulkStatusUpdate() {
+        // Arrange
+        UUID updated = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(loanUseCase.updateLoanStatuses(List.of(updated, missing), "Approved", "Bearer mock-token"))
+                .thenReturn(Flux.just(
+                        new BulkStatusUpdateResult(updated, Outcome.UPDATED),
+                        new BulkStatusUpdateResult(missing, Outcome.NOT_FOUND)));
+
+        // Act & Assert
+        webTestClient.put()
+                .uri(BULK_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BulkUpdateLoanStatusDTO(List.of(updated, missing), "Approved"))
+                .header("Authorization", "Bearer mock-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.received").isEqualTo(2)
+                .jsonPath("$.data.updated").isEqualTo(1)
+                .jsonPath("$.data.skipped").isEqualTo(1)
+                .jsonPath("$.data.results[1].outcome").isEqualTo("NOT_FOUND");
+    }
+}
@@ -0,0 +1,78 @@
+package com.onix.benchmarks;
+
+import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.UserDTO;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deterministic request data shared by the benchmarks, shaped like what the API receives and the
+ * database returns.
+ */
+final class Fixtures {
+
+    static final int PAGE_SIZE = 20;
+
+    private Fixtures() {
+    }
+
+    static Loan loan() {
+        return Loan.builder()
+                .loanId(UUID.fromString("6f1c2a4e-8d3b-4f57-9a10-2b7c5e9d4a31"))
+                .amount(new BigDecimal("15000000.00"))
+                .termMonths(36)
+                .email("maria.gomez@example.com")
+                .documentNumber("1032456789")
+                .loanTypeId(1)
+                .statusId(1)
+                .createdAt(LocalDateTime.of(2025, 8, 1, 10, 30))
+                .build();
+    }
+
+    static List<LoanPageableDTO> pendingPage() {
+        List<LoanPageableDTO> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(new LoanPageableDTO(
+                    new UUID(0, i),
+                    BigDecimal.valueOf(1_000_000L + i * 250_000L),
+                    12 + i,
+                    email(i),
+                    null,
+                    "PERSONAL",
+                    new BigDecimal("0.0150"),
+                    "PENDING_REVIEW",
+                    null,
+                    null,
+                    LocalDateTime.of(2025, 8, 1, 10, 30).plusMinutes(i)));
+        }
+        return page;
+    }
+
+    static Map<String, UserDTO> users() {
+        Map<String, UserDTO> users = new HashMap<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            users.put(email(i), new UserDTO(
+                    new UUID(1, i),
+                    "Name" + i,
+                    "Lastname" + i,
+                    LocalDate.of(1990, 1, 1).plusDays(i),
+                    "Calle " + i,
+                    "300000000" + i % 10,
+                    email(i),
+                    3_000_000L + i * 100_000L,
+                    String.valueOf(1_000_000_000L + i)));
+        }
+        return users;
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@example.com";
+    }
+}
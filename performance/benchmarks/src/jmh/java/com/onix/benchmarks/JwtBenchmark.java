@@ -0,0 +1,70 @@
+package com.onix.benchmarks;
+
+import com.onix.security.config.JwtConfigProperties;
+import com.onix.security.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Bearer token verification done by the security filter on every request.
+ * <ul>
+ *     <li>{@code perRequestKeyDoubleParse}: the original flow, which derived the key and built a parser on every
+ *     call and parsed the token twice (once to validate, once to read the subject).</li>
+ *     <li>{@code sharedParserSingleParse}: one parse with a parser built once.</li>
+ *     <li>{@code providerCachedClaims}: {@link JwtProvider#getClaims}, which serves repeat tokens from its
+ *     claims cache.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "bXktc3VwZXItc2VjcmV0LWtleS1mb3ItYmVuY2htYXJrcy0xMjM0NTY3ODkw";
+
+    private JwtProvider provider;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfigProperties properties = new JwtConfigProperties(SECRET, 3_600_000, "CLIENT", "ADMIN",
+                "Bearer ", "", "bench", Map.of());
+        provider = new JwtProvider(properties);
+        parser = Jwts.parser().verifyWith(key()).build();
+        token = provider.generateToken("maria.gomez@example.com", "CLIENT");
+    }
+
+    @Benchmark
+    public String perRequestKeyDoubleParse() {
+        Jwts.parser().verifyWith(key()).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key()).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String sharedParserSingleParse() {
+        return parser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Claims providerCachedClaims() {
+        return provider.getClaims(token);
+    }
+
+    private static SecretKey key() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package com.onix.benchmarks;
+
+import com.onix.model.loanapplication.Loan;
+import com.onix.usecase.loanapplication.decision.DecisionInput;
+import com.onix.usecase.loanapplication.decision.LoanDecision;
+import com.onix.usecase.loanapplication.decision.LoanDecisionEngine;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Automatic decision for loan types with auto validation, in decisions per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoanDecisionBenchmark {
+
+    private static final BigDecimal ANNUAL_RATE = new BigDecimal("19.00");
+    private static final BigDecimal MONTHLY_INCOME = BigDecimal.valueOf(8_000_000);
+    private static final BigDecimal OBLIGATIONS = BigDecimal.valueOf(600_000);
+
+    private LoanDecisionEngine engine;
+    private Loan loan;
+    private DecisionInput input;
+
+    @Setup
+    public void setUp() {
+        engine = new LoanDecisionEngine();
+        loan = Fixtures.loan();
+        input = DecisionInput.of(loan.getAmount(),
+                LoanDecisionEngine.monthlyPayment(loan.getAmount(), ANNUAL_RATE, loan.getTermMonths()),
+                MONTHLY_INCOME, OBLIGATIONS);
+    }
+
+    @Benchmark
+    public LoanDecision decide() {
+        return engine.decide(input);
+    }
+
+    /**
+     * Includes the amortized payment, which is computed per application.
+     */
+    @Benchmark
+    public LoanDecision decideWithPayment() {
+        return engine.decide(DecisionInput.of(loan.getAmount(),
+                LoanDecisionEngine.monthlyPayment(loan.getAmount(), ANNUAL_RATE, loan.getTermMonths()),
+                MONTHLY_INCOME, OBLIGATIONS));
+    }
+}
@@ -0,0 +1,59 @@
+package com.onix.benchmarks;
+
+import com.onix.model.loanapplication.Loan;
+import com.onix.usecase.loanapplication.validator.LoanValidator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Local validation that runs on every {@code POST /api/v1/loan} before any remote call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoanValidatorBenchmark {
+
+    private LoanValidator validator;
+    private Loan valid;
+    private Loan invalid;
+
+    @Setup
+    public void setUp() {
+        validator = new LoanValidator();
+        valid = Fixtures.loan();
+        invalid = valid.toBuilder()
+                .email("not-an-email")
+                .documentNumber(" ")
+                .build();
+    }
+
+    @Benchmark
+    public Boolean validLoan() {
+        return validator.validate(valid).hasElement().onErrorReturn(false).block();
+    }
+
+    @Benchmark
+    public Boolean invalidLoan() {
+        return validator.validate(invalid).hasElement().onErrorReturn(false).block();
+    }
+
+    /**
+     * The rules alone, without the Mono around them.
+     */
+    @Benchmark
+    public List<String> validLoanRules() {
+        return validator.violations(valid);
+    }
+
+    @Benchmark
+    public List<String> invalidLoanRules() {
+        return validator.violations(invalid);
+    }
+}
@@ -0,0 +1,52 @@
+package com.onix.benchmarks;
+
+import com.onix.api.dto.CreateLoanDTO;
+import com.onix.api.dto.LoanDTO;
+import com.onix.api.mapper.LoanMapper;
+import com.onix.api.mapper.LoanMapperImpl;
+import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Conversions done by the web layer's MapStruct mapper between request and response DTOs and the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private LoanMapper loanMapper;
+    private Loan loan;
+    private CreateLoanDTO request;
+
+    @Setup
+    public void setUp() {
+        loanMapper = new LoanMapperImpl();
+        loan = Fixtures.loan();
+        request = new CreateLoanDTO(loan.getAmount(), loan.getTermMonths(), loan.getEmail(),
+                loan.getDocumentNumber(), loan.getLoanTypeId());
+    }
+
+    @Benchmark
+    public Loan requestToModel() {
+        return loanMapper.toModel(request);
+    }
+
+    @Benchmark
+    public LoanDTO modelToResponse() {
+        return loanMapper.toDto(loan);
+    }
+
+    @Benchmark
+    public LoanPageableDTO modelToPageable() {
+        return loanMapper.toPageableDto(loan);
+    }
+}
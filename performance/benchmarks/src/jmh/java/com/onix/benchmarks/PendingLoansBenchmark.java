@@ -0,0 +1,125 @@
+package com.onix.benchmarks;
+
+import com.onix.model.loanapplication.Loan;
+import com.onix.model.loanapplication.LoanSortField;
+import com.onix.model.loanapplication.dto.LoanCursor;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.LoanStatusChange;
+import com.onix.model.loanapplication.dto.PageDTO;
+import com.onix.model.loanapplication.dto.UserDTO;
+import com.onix.model.loanapplication.gateways.LoanRepository;
+import com.onix.model.loanapplication.gateways.UserClient;
+import com.onix.usecase.loanapplication.LoanUseCase;
+import com.onix.usecase.loanapplication.validator.LoanValidator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link LoanUseCase#getPendingLoans} over in-memory gateways, which isolates the use case's own work
+ * (zipping page and count, enriching every row with user data and computing the monthly amount) from
+ * database and network latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PendingLoansBenchmark {
+
+    private LoanUseCase loanUseCase;
+
+    @Setup
+    public void setUp() {
+        List<LoanPageableDTO> page = Fixtures.pendingPage();
+        Map<String, UserDTO> users = Fixtures.users();
+        LoanRepository loanRepository = new LoanRepository() {
+            @Override
+            public Mono<Loan> saveLoanApplication(Loan loan) {
+                return Mono.just(loan);
+            }
+
+            @Override
+            public Flux<Loan> saveLoanApplications(List<Loan> loans) {
+                return Flux.fromIterable(loans);
+            }
+
+            @Override
+            public Flux<LoanPageableDTO> findPendingLoans(int pageNumber, int size, LoanSortField sortBy, String filter) {
+                return Flux.fromIterable(page);
+            }
+
+            @Override
+            public Flux<LoanPageableDTO> findPendingLoans(LoanCursor after, int size, LoanSortField sortBy, String filter) {
+                return Flux.fromIterable(page);
+            }
+
+            @Override
+            public Mono<Long> countPendingLoans(String filter) {
+                return Mono.just(400L);
+            }
+
+            @Override
+            public Flux<LoanPageableDTO> streamLoans(String filter) {
+                return Flux.fromIterable(page);
+            }
+
+            @Override
+            public Mono<Loan> findById(UUID loanId) {
+                return Mono.empty();
+            }
+
+            @Override
+            public Flux<Loan> findByIds(List<UUID> loanIds) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<Loan> findByEmailAndStatus(String email, Integer statusId) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<Loan> findByEmailsAndStatus(Set<String> emails, Integer statusId) {
+                return Flux.empty();
+            }
+
+            @Override
+            public Flux<LoanStatusChange> updateStatus(List<UUID> loanIds, Integer statusId) {
+                return Flux.empty();
+            }
+        };
+        UserClient userClient = new UserClient() {
+            @Override
+            public Mono<UserDTO> validateUserRegistered(String email, String documentNumber, String token) {
+                return Mono.justOrEmpty(users.get(email));
+            }
+
+            @Override
+            public Mono<Map<String, UserDTO>> getUsersByEmails(Set<String> emails, String token) {
+                return Mono.just(users);
+            }
+        };
+        loanUseCase = new LoanUseCase(loanRepository, new LoanValidator(), id -> Mono.empty(),
+                name -> Mono.empty(), null, userClient, null, null, null);
+    }
+
+    @Benchmark
+    public PageDTO<LoanPageableDTO> offsetPage() {
+        return loanUseCase.getPendingLoans(0, Fixtures.PAGE_SIZE, "amount", null, "token").block();
+    }
+
+    @Benchmark
+    public PageDTO<LoanPageableDTO> keysetPage() {
+        return loanUseCase.getPendingLoans((String) null, Fixtures.PAGE_SIZE, "amount", null, "token").block();
+    }
+}
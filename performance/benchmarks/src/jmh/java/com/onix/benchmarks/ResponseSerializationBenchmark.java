@@ -0,0 +1,54 @@
+package com.onix.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.onix.api.dto.LoanDTO;
+import com.onix.api.mapper.LoanMapperImpl;
+import com.onix.model.loanapplication.dto.LoanPageableDTO;
+import com.onix.model.loanapplication.dto.PageDTO;
+import com.onix.shared.dto.ApiResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson serialization of the {@link ApiResponse} envelopes written by the loan handlers, with the same
+ * module and date settings Spring Boot applies to the WebFlux codecs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<LoanDTO> created;
+    private ApiResponse<PageDTO<LoanPageableDTO>> pendingPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        created = ApiResponse.success(201, "Created", new LoanMapperImpl().toDto(Fixtures.loan()));
+        pendingPage = ApiResponse.success(200, "OK",
+                new PageDTO<>(Fixtures.pendingPage(), 0, Fixtures.PAGE_SIZE, 400, 20, true, false));
+    }
+
+    @Benchmark
+    public byte[] createdLoan() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(created);
+    }
+
+    @Benchmark
+    public byte[] pendingLoansPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pendingPage);
+    }
+}
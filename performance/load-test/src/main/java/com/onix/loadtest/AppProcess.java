@@ -0,0 +1,88 @@
+package com.onix.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * The app-service boot jar running in its own JVM, configured entirely through command line properties so
+ * that it talks only to the local stubs and database.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final int port;
+
+    private AppProcess(Process process, int port) {
+        this.process = process;
+        this.port = port;
+    }
+
+    static AppProcess start(Path appJar, Path logFile, Map<String, String> properties) throws IOException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(appJar.toString());
+        command.add("--server.port=" + port);
+        properties.forEach((name, value) -> command.add("--" + name + "=" + value));
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        builder.environment().put("AWS_ACCESS_KEY_ID", "load-test");
+        builder.environment().put("AWS_SECRET_ACCESS_KEY", "load-test");
+        return new AppProcess(builder.start(), port);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * Polls the health endpoint until it answers 200, failing early if the process exits.
+     */
+    void awaitHealthy(String authorization) throws InterruptedException {
+        HttpClient client = HttpClient.create().baseUrl(baseUrl())
+                .headers(headers -> headers.set("Authorization", authorization));
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("app-service exited with code " + process.exitValue()
+                        + " during startup; see its log");
+            }
+            Integer status = client.get().uri("/actuator/health")
+                    .response()
+                    .map(response -> response.status().code())
+                    .onErrorReturn(-1)
+                    .block(Duration.ofSeconds(5));
+            if (status != null && status == 200) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(500);
+        }
+        throw new IllegalStateException("app-service was not healthy after " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.onix.loadtest;
+
+import com.onix.loadtest.driver.OpenModelDriver;
+import com.onix.loadtest.driver.RouteStats;
+import com.onix.loadtest.stub.ReplicaProxy;
+import com.onix.loadtest.stub.SqsStub;
+import com.onix.loadtest.stub.UserServiceStub;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Boots app-service against a local PostgreSQL, a user service stub and an SQS stub, drives open-model
+ * traffic at the loan routes and reports latency percentiles and error rates per route. Everything runs in
+ * this process or as a child process, so a run needs neither network access nor AWS credentials.
+ * <p>
+ * Output goes to the working directory: {@code app.log} with the app's own log and {@code results.json}
+ * with the figures printed at the end.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path workDir = Path.of("").toAbsolutePath();
+        Tokens tokens = new Tokens();
+
+        try (LocalDatabase database = LocalDatabase.start(Files.createTempDirectory("loan-load-test-pg"));
+             UserServiceStub userService = new UserServiceStub(options.userLatency());
+             SqsStub sqs = new SqsStub();
+             ReplicaProxy replica = options.replica() ? new ReplicaProxy(database.port()) : null;
+             AppProcess app = AppProcess.start(options.appJar(), workDir.resolve("app.log"),
+                     appProperties(database, userService, sqs, replica))) {
+
+            System.out.println("Waiting for app-service on " + app.baseUrl());
+            app.awaitHealthy(tokens.admin());
+
+            ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                    .maxConnections(options.maxInFlight() * 3)
+                    .pendingAcquireMaxCount(-1)
+                    .build();
+            HttpClient client = HttpClient.create(connections).baseUrl(app.baseUrl());
+            LoanScenario scenario = new LoanScenario(client, options, tokens);
+
+            System.out.printf("Warming up for %s, then measuring for %s%n", options.warmup(), options.duration());
+            List<RouteStats.Snapshot> results = new OpenModelDriver(scenario.routes(), options.maxInFlight())
+                    .run(options.warmup(), options.duration());
+            connections.dispose();
+
+            Report report = new Report(results, options.duration());
+            report.print(System.out);
+            report.write(workDir.resolve("results.json"));
+            System.out.printf("user service: %d validate and %d batch calls; sqs: %d messages in %d requests%n",
+                    userService.validateCalls(), userService.batchCalls(), sqs.messages(), sqs.requests());
+            if (replica != null) {
+                System.out.printf("replica: %d connections opened through the proxy%n", replica.connections());
+            }
+        }
+    }
+
+    private static Map<String, String> appProperties(LocalDatabase database, UserServiceStub userService, SqsStub sqs,
+                                                     ReplicaProxy replica) {
+        Map<String, String> properties = new HashMap<>(Map.ofEntries(
+                Map.entry("spring.liquibase.url", database.jdbcUrl()),
+                Map.entry("spring.liquibase.user", LocalDatabase.USERNAME),
+                Map.entry("spring.liquibase.password", LocalDatabase.PASSWORD),
+                Map.entry("adapters.r2dbc.postgres.host", "localhost"),
+                Map.entry("adapters.r2dbc.postgres.port", String.valueOf(database.port())),
+                Map.entry("adapters.r2dbc.postgres.database", LocalDatabase.DATABASE),
+                Map.entry("adapters.r2dbc.postgres.username", LocalDatabase.USERNAME),
+                Map.entry("adapters.r2dbc.postgres.password", LocalDatabase.PASSWORD),
+                Map.entry("adapter.user.baseUrl", userService.baseUrl()),
+                Map.entry("adapter.sqs.endpoint", sqs.endpoint()),
+                Map.entry("adapter.sqs.queueUrl", sqs.queueUrl()),
+                Map.entry("security.jwt.secretKey", Tokens.SECRET),
+                Map.entry("security.jwt.keyId", Tokens.KEY_ID),
+                Map.entry("logging.level.com.onix", "WARN")));
+        if (replica != null) {
+            properties.put("adapters.r2dbc.postgres.replica.host", "localhost");
+            properties.put("adapters.r2dbc.postgres.replica.port", String.valueOf(replica.port()));
+        }
+        return properties;
+    }
+}
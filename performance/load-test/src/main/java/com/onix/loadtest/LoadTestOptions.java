@@ -0,0 +1,73 @@
+package com.onix.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Every rate is an open-model arrival rate: requests
+ * are started on schedule whether or not earlier ones have completed.
+ *
+ * @param appJar       the app-service boot jar to launch
+ * @param warmup       traffic sent before recording starts, at the configured rates
+ * @param duration     recorded traffic
+ * @param postRps      arrival rate of {@code POST /api/v1/loan}
+ * @param getRps       arrival rate of {@code GET /api/v1/loan}
+ * @param putRps       arrival rate of {@code PUT /api/v1/loan}
+ * @param users        distinct client identities used to submit loans
+ * @param pageSize     page size requested by {@code GET}
+ * @param userLatency  time the user service stub waits before answering
+ * @param maxInFlight  requests allowed in flight per route; arrivals beyond it are counted as dropped
+ * @param replica      give the app a second database endpoint as its read replica, so listing traffic goes
+ *                     through a separate pool
+ */
+public record LoadTestOptions(
+        Path appJar,
+        Duration warmup,
+        Duration duration,
+        int postRps,
+        int getRps,
+        int putRps,
+        int users,
+        int pageSize,
+        Duration userLatency,
+        int maxInFlight,
+        boolean replica) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String appJar = values.remove("app-jar");
+        if (appJar == null) {
+            throw new IllegalArgumentException("--app-jar is required");
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Path.of(appJar),
+                Duration.parse(take(values, "warmup", "PT10S")),
+                Duration.parse(take(values, "duration", "PT60S")),
+                Integer.parseInt(take(values, "post-rps", "50")),
+                Integer.parseInt(take(values, "get-rps", "50")),
+                Integer.parseInt(take(values, "put-rps", "20")),
+                Integer.parseInt(take(values, "users", "200")),
+                Integer.parseInt(take(values, "page-size", "20")),
+                Duration.parse(take(values, "user-latency", "PT0.005S")),
+                Integer.parseInt(take(values, "max-in-flight", "2000")),
+                Boolean.parseBoolean(take(values, "replica", "false")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
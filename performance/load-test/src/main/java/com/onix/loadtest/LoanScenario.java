@@ -0,0 +1,150 @@
+package com.onix.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onix.loadtest.driver.Route;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufMono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * The three loan routes. Loans created by {@code POST} are remembered and moved back and forth between
+ * {@code Pending Review} and {@code Reviewed} by {@code PUT}; a loan is never updated by two requests at
+ * once, so every update is a real status change. {@code GET} lists pending loans with a random sort key.
+ */
+final class LoanScenario {
+
+    static final String LOAN_PATH = "/api/v1/loan";
+
+    private static final int MAX_TRACKED_LOANS = 10_000;
+    private static final String[] SORT_FIELDS = {"email", "amount", "termMonths", "createdAt"};
+    private static final String PENDING_REVIEW = "Pending Review";
+    private static final String REVIEWED = "Reviewed";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final LoadTestOptions options;
+    private final List<String> clientEmails = new ArrayList<>();
+    private final List<String> clientTokens = new ArrayList<>();
+    private final String adminToken;
+    private final Queue<TrackedLoan> loans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger trackedLoans = new AtomicInteger();
+
+    LoanScenario(HttpClient client, LoadTestOptions options, Tokens tokens) {
+        this.client = client;
+        this.options = options;
+        this.adminToken = tokens.admin();
+        for (int i = 0; i < options.users(); i++) {
+            String email = "client" + i + "@loadtest.local";
+            clientEmails.add(email);
+            clientTokens.add(tokens.client(email));
+        }
+    }
+
+    List<Route> routes() {
+        return List.of(
+                new Route("POST " + LOAN_PATH, options.postRps(), this::createLoan),
+                new Route("GET " + LOAN_PATH, options.getRps(), this::listPendingLoans),
+                new Route("PUT " + LOAN_PATH, options.putRps(), this::updateLoanStatus));
+    }
+
+    private Mono<Integer> createLoan() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(clientEmails.size());
+        String body = json(new CreateLoan(
+                1_000_000L + random.nextLong(9_000_000L),
+                12 + random.nextInt(49),
+                clientEmails.get(user),
+                String.valueOf(1_000_000_000L + user),
+                1));
+        return client.headers(headers -> headers
+                        .set("Authorization", clientTokens.get(user))
+                        .set("Content-Type", "application/json"))
+                .post()
+                .uri(LOAN_PATH)
+                .send(ByteBufMono.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .map(payload -> {
+                            if (isSuccess(response)) {
+                                track(payload);
+                            }
+                            return response.status().code();
+                        }));
+    }
+
+    private Mono<Integer> listPendingLoans() {
+        String sortBy = SORT_FIELDS[ThreadLocalRandom.current().nextInt(SORT_FIELDS.length)];
+        return client.headers(headers -> headers.set("Authorization", adminToken))
+                .get()
+                .uri(LOAN_PATH + "?size=" + options.pageSize() + "&sortBy=" + sortBy)
+                .responseSingle((response, content) -> content.then(Mono.just(response.status().code())));
+    }
+
+    private Mono<Integer> updateLoanStatus() {
+        TrackedLoan loan = loans.poll();
+        if (loan == null) {
+            return Mono.empty();
+        }
+        String target = REVIEWED.equals(loan.status()) ? PENDING_REVIEW : REVIEWED;
+        String body = json(new UpdateStatus(loan.id(), target));
+        return client.headers(headers -> headers
+                        .set("Authorization", adminToken)
+                        .set("Content-Type", "application/json"))
+                .put()
+                .uri(LOAN_PATH)
+                .send(ByteBufMono.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.then(Mono.fromSupplier(() -> {
+                    loans.offer(isSuccess(response) ? new TrackedLoan(loan.id(), target) : loan);
+                    return response.status().code();
+                })))
+                .doOnError(error -> loans.offer(loan));
+    }
+
+    private void track(String payload) {
+        if (trackedLoans.get() >= MAX_TRACKED_LOANS) {
+            return;
+        }
+        JsonNode loanId = readTree(payload).path("data").path("loanId");
+        if (loanId.isTextual()) {
+            trackedLoans.incrementAndGet();
+            loans.offer(new TrackedLoan(loanId.asText(), "Created"));
+        }
+    }
+
+    private static boolean isSuccess(HttpClientResponse response) {
+        return response.status().code() / 100 == 2;
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot serialize " + value, e);
+        }
+    }
+
+    private JsonNode readTree(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (Exception e) {
+            return objectMapper.missingNode();
+        }
+    }
+
+    private record TrackedLoan(String id, String status) {
+    }
+
+    private record CreateLoan(long amount, int termMonths, String email, String documentNumber, int loanTypeId) {
+    }
+
+    private record UpdateStatus(String id, String status) {
+    }
+}
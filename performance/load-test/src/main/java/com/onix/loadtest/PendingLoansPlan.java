@@ -0,0 +1,221 @@
+package com.onix.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.DirectoryResourceAccessor;
+
+/**
+ * Seeds {@code --rows} loans (10M by default) into a local PostgreSQL with the app's Liquibase changelog applied,
+ * then runs {@code EXPLAIN (ANALYZE, BUFFERS)} on the pending-loans page queries for every sort key: the first
+ * page and a keyset page from the middle of the status. Each plan must read {@code loan_application} with an
+ * {@code Index Only Scan} on the covering index for its sort key and must not sort; otherwise the run fails.
+ * <p>
+ * The plans are printed and written to {@code pending-loans-plans.json} in the working directory.
+ */
+public final class PendingLoansPlan {
+
+    private static final String CHANGELOG = "db/changelog/db.changelog-master.yaml";
+    private static final int PENDING_REVIEW = 1;
+    private static final int PAGE_SIZE = 20;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Same projection and filter as {@code PendingLoanQueriesImpl}, with the bind parameters inlined.
+     */
+    private static final String SELECT_PENDING_LOANS = """
+            SELECT la.loan_id,
+                    la.amount,
+                    la.term_months,
+                    la.email,
+                    la.created_at,
+                    la.status_id,
+                    lt.name AS loan_type,
+                    lt.interest_rate,
+                    (la.amount / la.term_months) AS monthly_amount_requested
+            FROM loan_application la
+            INNER JOIN loan_types lt ON la.loan_type_id = lt.loan_type_id
+            WHERE la.status_id = ANY(ARRAY[%d])
+            """.formatted(PENDING_REVIEW);
+
+    private static final String SEED = """
+            INSERT INTO loan_application (loan_id, amount, term_months, email, document_number, status_id,
+                                          loan_type_id, created_at)
+            SELECT gen_random_uuid(),
+                   round((1000000 + random() * 9000000)::numeric, 2),
+                   (6 + floor(random() * 115))::int,
+                   'user' || (g % 500000) || '@example.com',
+                   (1000000000 + g)::text,
+                   (ARRAY[1, 1, 1, 2, 3, 5])[1 + floor(random() * 6)::int],
+                   1 + floor(random() * 2)::int,
+                   now() - (g || ' seconds')::interval
+            FROM generate_series(1, %d) AS g
+            """;
+
+    /**
+     * Sort keys as listed in {@code LoanSortField}, with their column and covering index.
+     */
+    private enum SortKey {
+        EMAIL("la.email", "idx_loan_application_status_email_loan_id"),
+        AMOUNT("la.amount", "idx_loan_application_status_amount_loan_id"),
+        TERM_MONTHS("la.term_months", "idx_loan_application_status_term_loan_id"),
+        CREATED_AT("la.created_at", "idx_loan_application_status_created_loan_id");
+
+        private final String column;
+        private final String index;
+
+        SortKey(String column, String index) {
+            this.column = column;
+            this.index = index;
+        }
+
+        String orderBy() {
+            return " ORDER BY " + column + ", la.loan_id";
+        }
+    }
+
+    private PendingLoansPlan() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        long rows = Long.parseLong(options.getOrDefault("rows", "10000000"));
+        Path changelogDir = Path.of(options.getOrDefault("changelog-dir",
+                "applications/app-service/src/main/resources"));
+        Path workDir = Path.of("").toAbsolutePath();
+
+        try (LocalDatabase database = LocalDatabase.start(Files.createTempDirectory("loan-plan-pg"));
+             Connection connection = DriverManager.getConnection(database.jdbcUrl(), LocalDatabase.USERNAME,
+                     LocalDatabase.PASSWORD)) {
+            migrate(connection, changelogDir);
+            seed(connection, rows);
+
+            List<Map<String, Object>> results = explainAll(connection);
+            Files.writeString(workDir.resolve("pending-loans-plans.json"),
+                    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(results));
+
+            List<String> failures = results.stream()
+                    .filter(result -> !Boolean.TRUE.equals(result.get("indexOnly")))
+                    .map(result -> (String) result.get("query"))
+                    .toList();
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Not an index-only scan without a sort: " + failures);
+            }
+            System.out.printf("Every sorted page over %d rows is an index-only scan%n", rows);
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    private static void migrate(Connection connection, Path changelogDir) throws Exception {
+        Database database = DatabaseFactory.getInstance()
+                .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        Liquibase liquibase = new Liquibase(CHANGELOG, new DirectoryResourceAccessor(changelogDir), database);
+        liquibase.update("");
+    }
+
+    private static void seed(Connection connection, long rows) throws SQLException {
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SEED.formatted(rows));
+            // Index-only scans skip the heap only for pages the visibility map marks all-visible.
+            statement.execute("VACUUM ANALYZE loan_application");
+        }
+        System.out.printf("Seeded %d loans in %d s%n", rows, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private static List<Map<String, Object>> explainAll(Connection connection) throws SQLException {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (SortKey sortKey : SortKey.values()) {
+            results.add(explain(connection, sortKey, "first page",
+                    SELECT_PENDING_LOANS + sortKey.orderBy() + " LIMIT " + PAGE_SIZE));
+            String after = " AND (" + sortKey.column + ", la.loan_id) > (" + middleOf(connection, sortKey) + ")";
+            results.add(explain(connection, sortKey, "keyset page",
+                    SELECT_PENDING_LOANS + after + sortKey.orderBy() + " LIMIT " + PAGE_SIZE));
+        }
+        return results;
+    }
+
+    /**
+     * Sort value and loan id halfway through the status, as SQL literals, to start a deep keyset page from.
+     */
+    private static String middleOf(Connection connection, SortKey sortKey) throws SQLException {
+        String sql = "SELECT quote_literal(" + sortKey.column + ") || ', ' || quote_literal(la.loan_id) || '::uuid'"
+                + " FROM loan_application la WHERE la.status_id = " + PENDING_REVIEW + sortKey.orderBy()
+                + " OFFSET (SELECT count(*) / 2 FROM loan_application WHERE status_id = " + PENDING_REVIEW + ")"
+                + " LIMIT 1";
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static Map<String, Object> explain(Connection connection, SortKey sortKey, String page, String sql)
+            throws SQLException {
+        JsonNode plan;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            resultSet.next();
+            plan = OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable plan for " + sortKey, e);
+        }
+
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan.get("Plan"), nodes);
+        JsonNode scan = nodes.stream()
+                .filter(node -> "loan_application".equals(node.path("Relation Name").asText()))
+                .findFirst()
+                .orElseThrow();
+        boolean sorted = nodes.stream().anyMatch(node -> node.path("Node Type").asText().contains("Sort"));
+        boolean indexOnly = "Index Only Scan".equals(scan.path("Node Type").asText())
+                && sortKey.index.equals(scan.path("Index Name").asText())
+                && !sorted;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", sortKey + " " + page);
+        result.put("indexOnly", indexOnly);
+        result.put("scan", scan.path("Node Type").asText());
+        result.put("index", scan.path("Index Name").asText(null));
+        result.put("heapFetches", scan.path("Heap Fetches").asLong());
+        result.put("sharedHitBlocks", plan.get("Plan").path("Shared Hit Blocks").asLong());
+        result.put("sharedReadBlocks", plan.get("Plan").path("Shared Read Blocks").asLong());
+        result.put("executionMs", plan.path("Execution Time").asDouble());
+        System.out.printf("%-24s %-16s %-44s heap fetches %-6d %8.3f ms%n", result.get("query"),
+                result.get("scan"), result.get("index"), result.get("heapFetches"), result.get("executionMs"));
+        return result;
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+}
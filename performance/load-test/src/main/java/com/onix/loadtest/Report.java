@@ -0,0 +1,72 @@
+package com.onix.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onix.loadtest.driver.RouteStats;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the per-route summary and writes the same figures as JSON so runs can be compared.
+ */
+final class Report {
+
+    private static final String ROW = "%-16s %8s %8s %10s %8s %8s %9s %9s %9s %9s%n";
+
+    private final List<RouteStats.Snapshot> routes;
+    private final Duration duration;
+
+    Report(List<RouteStats.Snapshot> routes, Duration duration) {
+        this.routes = routes;
+        this.duration = duration;
+    }
+
+    void print(PrintStream out) {
+        out.printf(ROW, "route", "offered", "achieved", "completed", "errors", "dropped",
+                "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (RouteStats.Snapshot route : routes) {
+            out.printf(ROW,
+                    route.route(),
+                    route.offeredRate(),
+                    String.format("%.1f", route.completed() / seconds()),
+                    route.completed(),
+                    String.format("%.2f%%", route.errorRate() * 100),
+                    route.dropped(),
+                    String.format("%.2f", route.percentileMillis(50)),
+                    String.format("%.2f", route.percentileMillis(99)),
+                    String.format("%.2f", route.percentileMillis(99.9)),
+                    String.format("%.2f", route.latencies().getMaxValue() / 1_000_000.0));
+            route.failures().forEach((reason, count) -> out.printf("    %s: %d%n", reason, count));
+        }
+    }
+
+    void write(Path file) throws IOException {
+        List<Map<String, Object>> json = routes.stream().map(this::toJson).toList();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), json);
+    }
+
+    private Map<String, Object> toJson(RouteStats.Snapshot route) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("route", route.route());
+        json.put("offeredRps", route.offeredRate());
+        json.put("achievedRps", route.completed() / seconds());
+        json.put("succeeded", route.succeeded());
+        json.put("failed", route.failed());
+        json.put("dropped", route.dropped());
+        json.put("errorRate", route.errorRate());
+        json.put("p50Ms", route.percentileMillis(50));
+        json.put("p99Ms", route.percentileMillis(99));
+        json.put("p999Ms", route.percentileMillis(99.9));
+        json.put("maxMs", route.latencies().getMaxValue() / 1_000_000.0);
+        json.put("failures", route.failures());
+        return json;
+    }
+
+    private double seconds() {
+        return duration.toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.onix.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+
+/**
+ * Issues bearer tokens the app accepts. The app is started with {@link #SECRET} and {@link #KEY_ID} as its
+ * signing key, so tokens are minted here instead of going through a login flow.
+ */
+final class Tokens {
+
+    static final String SECRET = "load-test-signing-secret-0123456789abcdef";
+    static final String KEY_ID = "load-test";
+
+    private static final Duration VALIDITY = Duration.ofHours(4);
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    String client(String email) {
+        return issue(email, "CLIENT");
+    }
+
+    String admin() {
+        return issue("admin@loadtest.local", "ADMIN");
+    }
+
+    private String issue(String subject, String role) {
+        Date now = new Date();
+        return "Bearer " + Jwts.builder()
+                .subject(subject)
+                .claim("roles", List.of(Map.of("authority", role)))
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + VALIDITY.toMillis()))
+                .header().keyId(KEY_ID).and()
+                .signWith(key)
+                .compact();
+    }
+}
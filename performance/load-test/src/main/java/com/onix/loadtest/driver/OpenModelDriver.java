@@ -0,0 +1,108 @@
+package com.onix.loadtest.driver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends requests on a fixed schedule per route (an open workload model): arrival {@code n} of a route is
+ * due at {@code start + n / rate}, whether or not earlier requests have returned. Arrivals that fall behind
+ * schedule are sent immediately in a burst rather than skipped, and are measured from the time they were
+ * due. When a route already has {@code maxInFlight} requests outstanding the arrival is dropped and counted,
+ * which keeps an overloaded server from exhausting the driver's memory.
+ */
+public final class OpenModelDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final List<RouteStats> stats;
+    private final int maxInFlight;
+
+    public OpenModelDriver(List<Route> routes, int maxInFlight) {
+        this.stats = routes.stream()
+                .filter(route -> route.ratePerSecond() > 0)
+                .map(RouteStats::new)
+                .toList();
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runs the warm-up and then the measured phase, and returns what was recorded during the measured
+     * phase only.
+     */
+    public List<RouteStats.Snapshot> run(Duration warmup, Duration duration) {
+        if (stats.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long[] due = new long[stats.size()];
+        long[] interval = new long[stats.size()];
+        for (int i = 0; i < stats.size(); i++) {
+            due[i] = start;
+            interval[i] = TimeUnit.SECONDS.toNanos(1) / stats.get(i).route().ratePerSecond();
+        }
+
+        boolean measuring = warmup.isZero();
+        while (true) {
+            int next = earliest(due);
+            if (due[next] >= end) {
+                break;
+            }
+            if (!measuring && due[next] >= measureFrom) {
+                stats.forEach(RouteStats::reset);
+                measuring = true;
+            }
+            long wait = due[next] - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(stats.get(next), due[next]);
+            due[next] += interval[next];
+        }
+
+        drain();
+        return stats.stream().map(RouteStats::snapshot).toList();
+    }
+
+    private void fire(RouteStats route, long scheduledAt) {
+        if (!route.tryAcquire(maxInFlight)) {
+            route.drop();
+            return;
+        }
+        route.route().call().get()
+                .switchIfEmpty(Mono.fromRunnable(route::drop))
+                .doFinally(signal -> route.release())
+                .subscribe(
+                        status -> {
+                            long latency = System.nanoTime() - scheduledAt;
+                            if (status >= 200 && status < 300) {
+                                route.success(latency);
+                            } else {
+                                route.failure(latency, "HTTP " + status);
+                            }
+                        },
+                        error -> route.failure(System.nanoTime() - scheduledAt, error.getClass().getSimpleName()),
+                        () -> { });
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline && stats.stream().anyMatch(route -> route.inFlight() > 0)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    private static int earliest(long[] due) {
+        int earliest = 0;
+        for (int i = 1; i < due.length; i++) {
+            if (due[i] < due[earliest]) {
+                earliest = i;
+            }
+        }
+        return earliest;
+    }
+}
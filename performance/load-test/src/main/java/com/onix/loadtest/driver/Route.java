@@ -0,0 +1,15 @@
+package com.onix.loadtest.driver;
+
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * One kind of request sent at a fixed arrival rate.
+ *
+ * @param name          label used in the report
+ * @param ratePerSecond arrivals per second; zero disables the route
+ * @param call          starts one request and emits its HTTP status, or completes empty when the request
+ *                      cannot be built yet (for example, no loan exists to update), which counts as dropped
+ */
+public record Route(String name, int ratePerSecond, Supplier<Mono<Integer>> call) {
+}
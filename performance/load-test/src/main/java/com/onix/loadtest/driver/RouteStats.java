@@ -0,0 +1,101 @@
+package com.onix.loadtest.driver;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Outcomes of one route. Latencies are recorded in nanoseconds from the request's scheduled start, so time
+ * spent waiting behind a slow server counts against it instead of silently lowering the offered load.
+ */
+public final class RouteStats {
+
+    private final Route route;
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    RouteStats(Route route) {
+        this.route = route;
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    boolean tryAcquire(int maxInFlight) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    void reset() {
+        latencies.reset();
+        succeeded.reset();
+        failed.reset();
+        dropped.reset();
+        failures.clear();
+    }
+
+    void success(long latencyNanos) {
+        latencies.recordValue(latencyNanos);
+        succeeded.increment();
+    }
+
+    void failure(long latencyNanos, String reason) {
+        latencies.recordValue(latencyNanos);
+        failed.increment();
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    void drop() {
+        dropped.increment();
+    }
+
+    Snapshot snapshot() {
+        Map<String, Long> reasons = new TreeMap<>();
+        failures.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        return new Snapshot(route.name(), route.ratePerSecond(), latencies.getIntervalHistogram(),
+                succeeded.sum(), failed.sum(), dropped.sum(), reasons);
+    }
+
+    public record Snapshot(
+            String route,
+            int offeredRate,
+            Histogram latencies,
+            long succeeded,
+            long failed,
+            long dropped,
+            Map<String, Long> failures) {
+
+        public long completed() {
+            return succeeded + failed;
+        }
+
+        public double errorRate() {
+            long attempted = completed() + dropped;
+            return attempted == 0 ? 0 : (double) (failed + dropped) / attempted;
+        }
+
+        public double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.onix.loadtest.stub;
+
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+/**
+ * Stands in for a read replica: a second PostgreSQL endpoint that forwards every connection, byte for byte,
+ * to the local database. The app gives it its own pool, so read/write routing, per-pool metrics and the
+ * fallback to the primary (by closing the proxy mid-run) can be exercised without a real replica.
+ */
+public final class ReplicaProxy implements AutoCloseable {
+
+    private final AtomicLong connections = new AtomicLong();
+    private final DisposableServer server;
+
+    public ReplicaProxy(int databasePort) {
+        TcpClient database = TcpClient.create().host("localhost").port(databasePort);
+        this.server = TcpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((clientIn, clientOut) -> database.connect()
+                        .doOnNext(upstream -> connections.incrementAndGet())
+                        .flatMap(upstream -> Mono.when(
+                                        upstream.outbound().send(clientIn.receive().retain()).then(),
+                                        clientOut.send(upstream.inbound().receive().retain()).then())
+                                .doFinally(signal -> upstream.dispose())))
+                .bindNow();
+    }
+
+    public int port() {
+        return server.port();
+    }
+
+    public long connections() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
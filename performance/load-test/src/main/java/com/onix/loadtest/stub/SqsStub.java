@@ -0,0 +1,125 @@
+package com.onix.loadtest.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Accepts {@code SendMessage} and {@code SendMessageBatch} over the AWS JSON protocol used by the SDK's
+ * SQS client and acknowledges every entry. Bodies are only counted, not stored. The MD5 digests are
+ * computed because the SDK verifies them on every response.
+ */
+public final class SqsStub implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "application/x-amz-json-1.0";
+    private static final String TARGET_PREFIX = "AmazonSQS.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final DisposableServer server;
+
+    public SqsStub() {
+        this.server = HttpServer.create()
+                .port(0)
+                .handle(this::handle)
+                .bindNow();
+    }
+
+    public String endpoint() {
+        return "http://localhost:" + server.port();
+    }
+
+    public String queueUrl() {
+        return endpoint() + "/000000000000/loan-status-queue";
+    }
+
+    public long messages() {
+        return messages.get();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    private Mono<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        requests.incrementAndGet();
+        String target = String.valueOf(request.requestHeaders().get("X-Amz-Target"));
+        return request.receive().aggregate().asString(StandardCharsets.UTF_8)
+                .defaultIfEmpty("{}")
+                .mapNotNull(body -> switch (target.replace(TARGET_PREFIX, "")) {
+                    case "SendMessage" -> sendMessage(readTree(body));
+                    case "SendMessageBatch" -> sendMessageBatch(readTree(body));
+                    default -> null;
+                })
+                .flatMap(payload -> respond(response, 200, payload))
+                .switchIfEmpty(Mono.defer(() -> respond(response, 400, Map.of(
+                        "__type", "com.amazonaws.sqs#UnsupportedOperation",
+                        "message", "Operation " + target + " is not supported by the stub"))));
+    }
+
+    private Map<String, Object> sendMessage(JsonNode request) {
+        messages.incrementAndGet();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("MessageId", UUID.randomUUID().toString());
+        result.put("MD5OfMessageBody", md5(request.path("MessageBody").asText()));
+        return result;
+    }
+
+    private Map<String, Object> sendMessageBatch(JsonNode request) {
+        List<Map<String, Object>> successful = new ArrayList<>();
+        for (JsonNode entry : request.path("Entries")) {
+            messages.incrementAndGet();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("Id", entry.path("Id").asText());
+            result.put("MessageId", UUID.randomUUID().toString());
+            result.put("MD5OfMessageBody", md5(entry.path("MessageBody").asText()));
+            successful.add(result);
+        }
+        return Map.of("Successful", successful, "Failed", List.of());
+    }
+
+    private Mono<Void> respond(HttpServerResponse response, int status, Object payload) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(payload))
+                .flatMap(json -> response
+                        .status(status)
+                        .header("Content-Type", CONTENT_TYPE)
+                        .sendString(Mono.just(json))
+                        .then());
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid SQS request body", e);
+        }
+    }
+
+    private static String md5(String body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
@@ -0,0 +1,143 @@
+package com.onix.loadtest.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Stands in for the authentication service behind {@code adapter.user}. Every email is a registered user
+ * whose profile, document number included, is derived from the email, and every answer is delayed by a fixed
+ * latency so the app sees a realistic remote call.
+ */
+public final class UserServiceStub implements AutoCloseable {
+
+    public static final String BASE_PATH = "/api/v1/users";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration latency;
+    private final AtomicLong validateCalls = new AtomicLong();
+    private final AtomicLong batchCalls = new AtomicLong();
+    private final DisposableServer server;
+
+    public UserServiceStub(Duration latency) {
+        this.latency = latency;
+        this.server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get(BASE_PATH + "/validate", this::validate)
+                        .post(BASE_PATH + "/batch", this::batch))
+                .bindNow();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.port() + BASE_PATH;
+    }
+
+    public long validateCalls() {
+        return validateCalls.get();
+    }
+
+    public long batchCalls() {
+        return batchCalls.get();
+    }
+
+    private Publisher<Void> validate(HttpServerRequest request, HttpServerResponse response) {
+        validateCalls.incrementAndGet();
+        String email = queryParam(request.uri(), "email");
+        return respond(response, envelope(email == null ? null : user(email)));
+    }
+
+    private Publisher<Void> batch(HttpServerRequest request, HttpServerResponse response) {
+        batchCalls.incrementAndGet();
+        return request.receive().aggregate().asString()
+                .map(body -> {
+                    Map<String, Object> users = new LinkedHashMap<>();
+                    readTree(body).path("emails").forEach(email -> users.put(email.asText(), user(email.asText())));
+                    return envelope(users);
+                })
+                .flatMap(payload -> Mono.from(respond(response, payload)));
+    }
+
+    private Publisher<Void> respond(HttpServerResponse response, Object payload) {
+        return Mono.delay(latency)
+                .then(Mono.fromCallable(() -> objectMapper.writeValueAsString(payload)))
+                .flatMap(json -> response
+                        .header("Content-Type", "application/json")
+                        .sendString(Mono.just(json))
+                        .then());
+    }
+
+    private static Map<String, Object> envelope(Object data) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("httpCode", 200);
+        envelope.put("httpMessage", "OK");
+        envelope.put("data", data);
+        return envelope;
+    }
+
+    private static Map<String, Object> user(String email) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("userId", UUID.nameUUIDFromBytes(email.getBytes(StandardCharsets.UTF_8)).toString());
+        user.put("name", "Load");
+        user.put("lastname", "Test");
+        user.put("birthDate", "1990-01-01");
+        user.put("address", "Calle 1 # 2-3");
+        user.put("phone", "3000000000");
+        user.put("email", email);
+        user.put("baseSalary", 2_000_000L + Math.floorMod(email.hashCode(), 8_000_000));
+        user.put("documentNumber", documentNumber(email));
+        return user;
+    }
+
+    /**
+     * Matches the document number the load scenario sends for {@code client<n>@...}; other emails have none.
+     */
+    private static String documentNumber(String email) {
+        if (!email.startsWith("client") || email.indexOf('@') <= "client".length()) {
+            return null;
+        }
+        try {
+            return String.valueOf(1_000_000_000L + Long.parseLong(email.substring("client".length(), email.indexOf('@'))));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid batch request body", e);
+        }
+    }
+
+    private static String queryParam(String uri, String name) {
+        int query = uri.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String pair : uri.substring(query + 1).split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return URLDecoder.decode(pair.substring(name.length() + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}